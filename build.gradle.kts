@@ -4,6 +4,7 @@ plugins {
     id("com.gradleup.shadow") version "9.3.1"
     id("maven-publish")
     id("jacoco")
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 val minecraftVersion: String by project
@@ -70,6 +71,13 @@ dependencies {
     testImplementation("org.mongodb:mongodb-driver-sync:${mongoDBVersion}")
     testImplementation("com.github.ben-manes.caffeine:caffeine:${caffeineVersion}")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // Benchmark Dependencies
+    jmhImplementation(paperweight.paperDevBundle("${minecraftVersion}-R0.1-SNAPSHOT"))
+    jmhImplementation(sourceSets.test.get().output)
+    jmhImplementation("org.mockbukkit.mockbukkit:mockbukkit-v1.21:${mockbukkitVersion}")
+    jmhImplementation("org.mongodb:mongodb-driver-sync:${mongoDBVersion}")
+    jmhImplementation("com.github.ben-manes.caffeine:caffeine:${caffeineVersion}")
 }
 
 paperweight {
@@ -78,6 +86,16 @@ paperweight {
 
 runPaper.folia.registerTask()
 
+jmh {
+    jmhVersion.set(providers.gradleProperty("jmhVersion"))
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results-${project.version}.json"))
+
+    // ./gradlew jmh -PjmhIncludes=LangBenchmark
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
+
 tasks {
     runServer {
         minecraftVersion(minecraftVersion)
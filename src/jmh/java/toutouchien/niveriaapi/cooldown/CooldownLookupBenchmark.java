@@ -0,0 +1,85 @@
+package toutouchien.niveriaapi.cooldown;
+
+import net.kyori.adventure.key.Key;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two-level lookup of {@link CooldownStore} with the previous
+ * single map keyed by a {@code (Key, UUID)} record allocated on every lookup.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=CooldownLookupBenchmark}; the
+ * {@code gc} profiler reports the allocation rate of both lookups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CooldownLookupBenchmark {
+    private static final int KEY_COUNT = 8;
+
+    @Param({"1024", "131072"})
+    private int players;
+
+    private final Key[] keys = new Key[KEY_COUNT];
+    private UUID[] uuids;
+    private CooldownStore store;
+    private Map<CompositeKey, Cooldown> compositeKeyMap;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        long expirationTime = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+        for (int i = 0; i < KEY_COUNT; i++)
+            this.keys[i] = Key.key("benchmark", "ability_" + i);
+
+        this.uuids = new UUID[this.players];
+        this.store = new CooldownStore();
+        this.compositeKeyMap = new ConcurrentHashMap<>();
+        for (int i = 0; i < this.players; i++) {
+            UUID uuid = UUID.randomUUID();
+            this.uuids[i] = uuid;
+
+            for (Key key : this.keys) {
+                Cooldown cooldown = new Cooldown(uuid, key, expirationTime, false);
+                this.store.put(cooldown);
+                this.compositeKeyMap.put(new CompositeKey(key, uuid), cooldown);
+            }
+        }
+    }
+
+    @Benchmark
+    public Cooldown twoLevelMap() {
+        int index = this.next();
+        return this.store.get(this.uuids[index], this.keys[index & (KEY_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public Cooldown compositeKeyMap() {
+        int index = this.next();
+        return this.compositeKeyMap.get(new CompositeKey(this.keys[index & (KEY_COUNT - 1)], this.uuids[index]));
+    }
+
+    private int next() {
+        return this.cursor = (this.cursor + 1) & (this.players - 1);
+    }
+
+    private record CompositeKey(Key key, UUID uuid) {
+    }
+}
@@ -0,0 +1,94 @@
+package toutouchien.niveriaapi.cooldown;
+
+import net.kyori.adventure.key.Key;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import toutouchien.niveriaapi.NiveriaAPI;
+import toutouchien.niveriaapi.mock.MockBukkitHelper;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the public {@link CooldownManager} API without a database, on a
+ * manager already holding a cooldown for every player and key.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=CooldownManagerBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CooldownManagerBenchmark {
+    private static final int KEY_COUNT = 8;
+    private static final Duration DURATION = Duration.ofHours(1);
+
+    @Param({"1024", "16384"})
+    private int players;
+
+    private final Key[] keys = new Key[KEY_COUNT];
+    private UUID[] uuids;
+    private CooldownManager cooldownManager;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        MockBukkitHelper.safeMock();
+        NiveriaAPI plugin = MockBukkit.load(NiveriaAPI.class);
+
+        for (int i = 0; i < KEY_COUNT; i++)
+            this.keys[i] = Key.key("benchmark", "ability_" + i);
+
+        this.uuids = new UUID[this.players];
+        this.cooldownManager = new CooldownManager(plugin, null);
+        for (int i = 0; i < this.players; i++) {
+            UUID uuid = UUID.randomUUID();
+            this.uuids[i] = uuid;
+
+            for (Key key : this.keys)
+                this.cooldownManager.setCooldown(uuid, key, DURATION);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.cooldownManager.shutdown();
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Benchmark
+    public boolean inCooldown() {
+        int index = this.next();
+        return this.cooldownManager.inCooldown(this.uuids[index], this.keys[index & (KEY_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public long remainingMillis() {
+        int index = this.next();
+        return this.cooldownManager.remainingMillis(this.uuids[index], this.keys[index & (KEY_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public Cooldown setCooldown() {
+        int index = this.next();
+        return this.cooldownManager.setCooldown(this.uuids[index], this.keys[index & (KEY_COUNT - 1)], DURATION);
+    }
+
+    private int next() {
+        return this.cursor = (this.cursor + 1) & (this.players - 1);
+    }
+}
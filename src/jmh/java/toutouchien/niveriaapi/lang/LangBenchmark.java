@@ -0,0 +1,86 @@
+package toutouchien.niveriaapi.lang;
+
+import net.kyori.adventure.text.Component;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import toutouchien.niveriaapi.NiveriaAPI;
+import toutouchien.niveriaapi.mock.MockBukkitHelper;
+import toutouchien.niveriaapi.mock.ServerMock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Lang#get} on the bundled NiveriaAPI language files, with
+ * and without placeholders, for the default locale and for a player.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=LangBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LangBenchmark {
+    private static final String KEY = "command.reload.start";
+    private static final String PLACEHOLDER_KEY = "command.reload.done";
+
+    private Lang lang;
+    private PlayerMock player;
+    private long time;
+
+    @Setup
+    public void setup() {
+        ServerMock server = MockBukkitHelper.safeMock();
+        MockBukkit.load(NiveriaAPI.class);
+
+        this.lang = NiveriaAPI.LANG;
+        this.player = server.addPlayer();
+    }
+
+    @TearDown
+    public void tearDown() {
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Benchmark
+    public Component get() {
+        return this.lang.get(KEY);
+    }
+
+    @Benchmark
+    public Component getForPlayer() {
+        return this.lang.get(this.player, KEY);
+    }
+
+    @Benchmark
+    public Component getWithPlaceholder() {
+        return this.lang.get(PLACEHOLDER_KEY, Lang.numberPlaceholder("time_ms", this.time++));
+    }
+
+    @Benchmark
+    public Component getWithParsedPlaceholder() {
+        return this.lang.get(PLACEHOLDER_KEY, Lang.placeholder("time_ms", String.valueOf(this.time++)));
+    }
+
+    @Benchmark
+    public Component getForPlayerWithPlaceholder() {
+        return this.lang.get(this.player, PLACEHOLDER_KEY, Lang.numberPlaceholder("time_ms", this.time++));
+    }
+
+    @Benchmark
+    public String getString() {
+        return this.lang.getString(KEY);
+    }
+}
@@ -0,0 +1,85 @@
+package toutouchien.niveriaapi.menu;
+
+import org.bukkit.entity.Player;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import toutouchien.niveriaapi.NiveriaAPI;
+import toutouchien.niveriaapi.menu.component.MenuComponent;
+import toutouchien.niveriaapi.menu.test.PaginatedTestMenu;
+import toutouchien.niveriaapi.mock.MockBukkitHelper;
+import toutouchien.niveriaapi.mock.ServerMock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering the paginated test menu, a 9x6 grid holding a paginator
+ * over every item and its navigation buttons: a full render of the opened
+ * menu, a render of the dirty components with every component dirty as done
+ * after a click without incremental rendering, and a {@link Menu#reopen()}.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=MenuRenderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuRenderBenchmark {
+    private BenchmarkMenu menu;
+
+    @Setup
+    public void setup() {
+        ServerMock server = MockBukkitHelper.safeMock();
+        MockBukkit.load(NiveriaAPI.class);
+
+        PlayerMock player = server.addPlayer();
+        this.menu = new BenchmarkMenu(player);
+        this.menu.open();
+    }
+
+    @TearDown
+    public void tearDown() {
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Benchmark
+    public void render() {
+        this.menu.root.render(this.menu.context());
+    }
+
+    @Benchmark
+    public void renderDirty() {
+        this.menu.root.markDirty();
+        this.menu.renderDirty();
+    }
+
+    @Benchmark
+    public void reopen() {
+        this.menu.reopen();
+    }
+
+    private static final class BenchmarkMenu extends PaginatedTestMenu {
+        private MenuComponent root;
+
+        private BenchmarkMenu(Player player) {
+            super(player);
+        }
+
+        @Override
+        protected MenuComponent root(MenuContext context) {
+            return this.root = super.root(context);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package toutouchien.niveriaapi.utils;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import toutouchien.niveriaapi.NiveriaAPI;
+import toutouchien.niveriaapi.mock.MockBukkitHelper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building menu-like items with {@link ItemBuilder}, from scratch
+ * and from a template.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=ItemBuilderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemBuilderBenchmark {
+    private static final Component NAME = Component.text("Benchmark Sword", NamedTextColor.LIGHT_PURPLE);
+    private static final List<Component> LORE = List.of(
+            Component.text("First line", NamedTextColor.GRAY),
+            Component.text("Second line", NamedTextColor.GRAY),
+            Component.text("Third line", NamedTextColor.GRAY)
+    );
+
+    private ItemStack template;
+
+    @Setup
+    public void setup() {
+        MockBukkitHelper.safeMock();
+        MockBukkit.load(NiveriaAPI.class);
+
+        this.template = this.buildItem();
+    }
+
+    @TearDown
+    public void tearDown() {
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Benchmark
+    public ItemStack build() {
+        return this.buildItem();
+    }
+
+    @Benchmark
+    public ItemStack buildFromTemplate() {
+        return ItemBuilder.of(this.template)
+                .amount(2)
+                .build();
+    }
+
+    private ItemStack buildItem() {
+        return ItemBuilder.of(Material.DIAMOND_SWORD)
+                .name(NAME)
+                .lore(LORE)
+                .addEnchantment(Enchantment.SHARPNESS, 5)
+                .unbreakable(true)
+                .build();
+    }
+}
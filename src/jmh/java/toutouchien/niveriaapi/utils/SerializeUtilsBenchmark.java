@@ -0,0 +1,102 @@
+package toutouchien.niveriaapi.utils;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import toutouchien.niveriaapi.NiveriaAPI;
+import toutouchien.niveriaapi.mock.MockBukkitHelper;
+import toutouchien.niveriaapi.mock.ServerMock;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link SerializeUtils} round trips of a single item, of a
+ * full player inventory and of a location.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=SerializeUtilsBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializeUtilsBenchmark {
+    private static final int INVENTORY_SIZE = 41;
+
+    private ItemStack item;
+    private byte[] serializedItem;
+    private ItemStack[] inventory;
+    private byte[] serializedInventory;
+    private Location location;
+    private byte[] serializedLocation;
+
+    @Setup
+    public void setup() {
+        ServerMock server = MockBukkitHelper.safeMock();
+        MockBukkit.load(NiveriaAPI.class);
+
+        this.item = ItemBuilder.of(Material.DIAMOND_SWORD)
+                .name(Component.text("Benchmark Sword"))
+                .addEnchantment(Enchantment.SHARPNESS, 5)
+                .build();
+        this.serializedItem = SerializeUtils.serializeItemStack(this.item);
+
+        this.inventory = new ItemStack[INVENTORY_SIZE];
+        Arrays.fill(this.inventory, this.item);
+        this.serializedInventory = SerializeUtils.serializeItemStacks(this.inventory);
+
+        this.location = new Location(server.getWorld("world"), 128.5, 64, -256.5, 90F, 45F);
+        this.serializedLocation = SerializeUtils.serializeLocation(this.location);
+    }
+
+    @TearDown
+    public void tearDown() {
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Benchmark
+    public byte[] serializeItemStack() {
+        return SerializeUtils.serializeItemStack(this.item);
+    }
+
+    @Benchmark
+    public ItemStack deserializeItemStack() {
+        return SerializeUtils.deserializeItemStack(this.serializedItem);
+    }
+
+    @Benchmark
+    public byte[] serializeInventory() {
+        return SerializeUtils.serializeItemStacks(this.inventory);
+    }
+
+    @Benchmark
+    public ItemStack[] deserializeInventory() {
+        return SerializeUtils.deserializeItemStacks(this.serializedInventory);
+    }
+
+    @Benchmark
+    public byte[] serializeLocation() {
+        return SerializeUtils.serializeLocation(this.location);
+    }
+
+    @Benchmark
+    public Location deserializeLocation() {
+        return SerializeUtils.deserializeLocation(this.serializedLocation);
+    }
+}
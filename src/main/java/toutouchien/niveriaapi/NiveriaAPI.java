@@ -3,11 +3,13 @@ package toutouchien.niveriaapi;
 import org.bson.Document;
 import org.bstats.bukkit.Metrics;
 import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.ApiStatus;
 import toutouchien.niveriaapi.cooldown.CooldownDatabase;
 import toutouchien.niveriaapi.cooldown.CooldownManager;
+import toutouchien.niveriaapi.database.DatabaseExecutor;
 import toutouchien.niveriaapi.database.MongoManager;
 import toutouchien.niveriaapi.database.PlayerListener;
 import toutouchien.niveriaapi.database.impl.NiveriaDatabaseManager;
@@ -19,7 +21,9 @@ import toutouchien.niveriaapi.lang.Lang;
 import toutouchien.niveriaapi.menu.listeners.MenuListener;
 import toutouchien.niveriaapi.updatechecker.UpdateChecker;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Locale;
 
 public class NiveriaAPI extends JavaPlugin {
     private static final String MONGODB_ENV_KEY = "NIVERIAAPI_MONGODB_CONNECTION_STRING";
@@ -102,6 +106,7 @@ public class NiveriaAPI extends JavaPlugin {
 
         LANG = Lang.builder(this)
                 .addDefaultLanguageFiles("en_US.yml", "fr_FR.yml")
+                .collectMetrics(this.getConfig().getBoolean("lang-metrics", false))
                 .build();
 
         if (!isUnitTest()) {
@@ -124,7 +129,7 @@ public class NiveriaAPI extends JavaPlugin {
                     this.mongoManager = new MongoManager(mongoDBConnectionString);
                     this.getSLF4JLogger().info("MongoManager initialized.");
 
-                    this.niveriaDatabaseManager = new NiveriaDatabaseManager(this);
+                    this.niveriaDatabaseManager = new NiveriaDatabaseManager(this, databaseExecutorSettings());
                     this.getSLF4JLogger().info("NiveriaDatabaseManager initialized for the shared 'Niveria' database.");
 
                     registerSharedDefaults();
@@ -139,7 +144,10 @@ public class NiveriaAPI extends JavaPlugin {
         this.chatInputManager = new ChatInputManager();
         if (!isUnitTest()) {
             CooldownDatabase database = this.databaseDisabled ? null : new CooldownDatabase(niveriaDatabaseManager, this.getSLF4JLogger());
-            this.cooldownManager = new CooldownManager(this, database);
+            ConfigurationSection cooldownsSection = this.getConfig().getConfigurationSection("cooldowns");
+            boolean lazyLoading = cooldownsSection != null && cooldownsSection.getBoolean("lazy-loading", false);
+            Duration unloadDelay = Duration.ofSeconds(cooldownsSection == null ? 300L : cooldownsSection.getLong("unload-delay-seconds", 300L));
+            this.cooldownManager = new CooldownManager(this, database, lazyLoading, unloadDelay);
         }
         (this.delayManager = new DelayManager(this)).initialize();
         this.hookManager = new HookManager(this);
@@ -171,12 +179,51 @@ public class NiveriaAPI extends JavaPlugin {
             pluginManager.registerEvents(new PlayerListener(this.niveriaDatabaseManager), this);
     }
 
+    private DatabaseExecutor.Settings databaseExecutorSettings() {
+        ConfigurationSection section = this.getConfig().getConfigurationSection("database-executor");
+        if (section == null)
+            return DatabaseExecutor.Settings.DEFAULT;
+
+        DatabaseExecutor.Settings defaults = DatabaseExecutor.Settings.DEFAULT;
+        String rejectionPolicyName = section.getString("rejection-policy", defaults.rejectionPolicy().name());
+        DatabaseExecutor.RejectionPolicy rejectionPolicy;
+        try {
+            rejectionPolicy = DatabaseExecutor.RejectionPolicy.valueOf(rejectionPolicyName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            this.getSLF4JLogger().warn("Unknown database executor rejection policy '{}', using {} instead.",
+                    rejectionPolicyName, defaults.rejectionPolicy());
+            rejectionPolicy = defaults.rejectionPolicy();
+        }
+
+        return new DatabaseExecutor.Settings(
+                section.getInt("threads", defaults.threads()),
+                section.getInt("queue-capacity", defaults.queueCapacity()),
+                rejectionPolicy
+        );
+    }
+
     private void registerSharedDefaults() {
         this.niveriaDatabaseManager.registerDefault("players", () ->
                 new Document("ip", "")
                         .append("firstJoin", 0L)
                         .append("lastJoin", 0L)
         );
+
+        ConfigurationSection cacheSection = this.getConfig().getConfigurationSection("database-cache");
+        if (cacheSection != null && cacheSection.getBoolean("enabled", false)) {
+            this.niveriaDatabaseManager.enableCache("players",
+                    Duration.ofSeconds(cacheSection.getLong("flush-interval-seconds", 30L)),
+                    Duration.ofMinutes(cacheSection.getLong("expire-after-access-minutes", 10L))
+            );
+        }
+
+        ConfigurationSection batchingSection = this.getConfig().getConfigurationSection("database-batching");
+        if (batchingSection != null && batchingSection.getBoolean("enabled", false)) {
+            this.niveriaDatabaseManager.enableBatching("players",
+                    batchingSection.getInt("max-batch-size", 500),
+                    Duration.ofMillis(batchingSection.getLong("max-delay-millis", 100L))
+            );
+        }
     }
 
     public ChatInputManager chatInputManager() {
@@ -214,6 +261,7 @@ public class NiveriaAPI extends JavaPlugin {
             this.bStats.shutdown();
 
         this.hookManager.onDisable();
+        LANG.shutdown();
 
         if (!isUnitTest() && !this.databaseDisabled)
             this.cooldownManager.shutdown();
@@ -18,6 +18,7 @@ public final class NiveriaAPIDebugCommand {
     public static LiteralArgumentBuilder<CommandSourceStack> get() {
         return Commands.literal("debug")
                 .requires(css -> CommandUtils.defaultRequirements(css, "niveriaapi.command.niveriaapi.debug"))
+                .then(NiveriaAPIDebugLangCommand.get())
                 .then(NiveriaAPIDebugMenuCommand.get())
                 .then(testMessageCommand());
     }
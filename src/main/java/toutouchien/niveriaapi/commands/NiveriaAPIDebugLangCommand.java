@@ -0,0 +1,89 @@
+package toutouchien.niveriaapi.commands;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.Commands;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import org.bukkit.command.CommandSender;
+import toutouchien.niveriaapi.lang.Lang;
+import toutouchien.niveriaapi.lang.LangMetrics;
+import toutouchien.niveriaapi.utils.CommandUtils;
+import toutouchien.niveriaapi.utils.MathUtils;
+
+import static toutouchien.niveriaapi.NiveriaAPI.LANG;
+
+public final class NiveriaAPIDebugLangCommand {
+    private static final int SLOWEST_KEYS = 10;
+
+    private NiveriaAPIDebugLangCommand() {
+        throw new IllegalStateException("Command class");
+    }
+
+    public static LiteralArgumentBuilder<CommandSourceStack> get() {
+        return Commands.literal("lang")
+                .requires(css -> CommandUtils.defaultRequirements(css, "niveriaapi.command.niveriaapi.debug.lang"))
+                .executes(ctx -> {
+                    CommandSender sender = CommandUtils.sender(ctx);
+                    LangMetrics metrics = LANG.metrics();
+                    if (metrics == null) {
+                        LANG.sendMessage(sender, "command.debug.lang.disabled");
+                        return Command.SINGLE_SUCCESS;
+                    }
+
+                    LANG.sendMessage(sender, "command.debug.lang.header");
+
+                    for (LangMetrics.LocaleStats localeStats : metrics.localeStats()) {
+                        LANG.sendMessage(sender, "command.debug.lang.locale",
+                                Lang.unparsedPlaceholder("locale", localeStats.locale().toLanguageTag()),
+                                Lang.numberPlaceholder("cache_hits", localeStats.cacheHits()),
+                                Lang.numberPlaceholder("cache_misses", localeStats.cacheMisses()),
+                                Lang.numberPlaceholder("hit_rate", MathUtils.decimalRound(localeStats.hitRate() * 100D, 2))
+                        );
+                    }
+
+                    LANG.sendMessage(sender, "command.debug.lang.slowest");
+                    for (LangMetrics.KeyStats keyStats : metrics.slowestKeys(SLOWEST_KEYS)) {
+                        LANG.sendMessage(sender, "command.debug.lang.key",
+                                Lang.unparsedPlaceholder("key", keyStats.key()),
+                                Lang.numberPlaceholder("average_us", MathUtils.decimalRound(keyStats.averageRenderNanos() / 1_000D, 2)),
+                                Lang.numberPlaceholder("max_us", MathUtils.decimalRound(keyStats.maxRenderNanos() / 1_000D, 2)),
+                                Lang.numberPlaceholder("renders", keyStats.renders()),
+                                Lang.numberPlaceholder("requests", keyStats.requests())
+                        );
+                    }
+
+                    Object2LongMap<String> missingKeys = metrics.missingKeys();
+                    if (!missingKeys.isEmpty()) {
+                        LANG.sendMessage(sender, "command.debug.lang.missing");
+                        for (Object2LongMap.Entry<String> entry : missingKeys.object2LongEntrySet()) {
+                            LANG.sendMessage(sender, "command.debug.lang.missing-key",
+                                    Lang.unparsedPlaceholder("key", entry.getKey()),
+                                    Lang.numberPlaceholder("requests", entry.getLongValue())
+                            );
+                        }
+                    }
+
+                    return Command.SINGLE_SUCCESS;
+                })
+                .then(resetCommand());
+    }
+
+    private static LiteralArgumentBuilder<CommandSourceStack> resetCommand() {
+        return Commands.literal("reset")
+                .requires(css -> CommandUtils.defaultRequirements(css, "niveriaapi.command.niveriaapi.debug.lang.reset"))
+                .executes(ctx -> {
+                    CommandSender sender = CommandUtils.sender(ctx);
+                    LangMetrics metrics = LANG.metrics();
+                    if (metrics == null) {
+                        LANG.sendMessage(sender, "command.debug.lang.disabled");
+                        return Command.SINGLE_SUCCESS;
+                    }
+
+                    metrics.reset();
+                    LANG.sendMessage(sender, "command.debug.lang.reset");
+
+                    return Command.SINGLE_SUCCESS;
+                });
+    }
+}
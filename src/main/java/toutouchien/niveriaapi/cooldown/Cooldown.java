@@ -152,6 +152,15 @@ public class Cooldown {
         return remaining > 0 ? Duration.ofMillis(remaining) : Duration.ZERO;
     }
 
+    /**
+     * Gets the remaining time of this cooldown in milliseconds.
+     *
+     * @return The remaining time in milliseconds, or 0 if expired
+     */
+    public long remainingMillis() {
+        return Math.max(0L, expirationTime - System.currentTimeMillis());
+    }
+
     /**
      * Gets the total duration of this cooldown.
      *
@@ -1,31 +1,60 @@
 package toutouchien.niveriaapi.cooldown;
 
 import com.google.common.base.Preconditions;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
 import net.kyori.adventure.key.InvalidKeyException;
 import net.kyori.adventure.key.Key;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import toutouchien.niveriaapi.NiveriaAPI;
 import toutouchien.niveriaapi.database.impl.NiveriaDatabaseManager;
 
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 /**
  * Manages the storage and retrieval of player cooldowns in the database.
+ * <p>
+ * Each cooldown is its own document in the {@code cooldowns} collection,
+ * identified by {@code <uuid>/<key>}. The {@code expirationTime} field is a
+ * date with a TTL index, so MongoDB deletes expired cooldowns by itself and
+ * loading only touches cooldowns that are still active.
  */
 @NullMarked
 public class CooldownDatabase {
+    private static final String COOLDOWNS = "cooldowns";
     private static final String PLAYERS = "players";
+    private static final String LEGACY_COOLDOWNS = "cooldowns";
+    private static final String UUID_FIELD = "uuid";
+    private static final String KEY_FIELD = "key";
     private static final String EXPIRATION_TIME = "expirationTime";
+    private static final int MIGRATION_BATCH_SIZE = 1000;
 
     private final NiveriaDatabaseManager database;
     private final Logger logger;
+    private volatile boolean legacyMigrationPending;
 
     /**
-     * Constructs a new CooldownDatabase.
+     * Constructs a new CooldownDatabase and creates the indexes of the cooldowns collection.
      *
      * @param database The NiveriaDatabaseManager instance for database operations.
      * @param logger   The Logger instance for logging.
@@ -36,6 +65,9 @@ public class CooldownDatabase {
 
         this.database = database;
         this.logger = logger;
+
+        if (!NiveriaAPI.isUnitTest())
+            createIndexes();
     }
 
     /**
@@ -46,10 +78,11 @@ public class CooldownDatabase {
     public void saveCooldown(Cooldown cooldown) {
         Preconditions.checkNotNull(cooldown, "cooldown cannot be null");
 
-        this.database.documentOrDefaultAsync(PLAYERS, cooldown.uuid().toString()).thenComposeAsync(document -> {
-            Document cooldownDocument = new Document(EXPIRATION_TIME, cooldown.expirationTime());
-            return this.database.setAsync(PLAYERS, cooldown.uuid().toString(), "cooldowns." + cooldown.key().asString(), cooldownDocument)
-                    .thenApply(success -> null);
+        String id = documentId(cooldown.uuid(), cooldown.key());
+        Date expirationTime = new Date(cooldown.expirationTime());
+        this.database.upsertAsync(COOLDOWNS, id, EXPIRATION_TIME, expirationTime, newDocument -> {
+            newDocument.put(UUID_FIELD, cooldown.uuid().toString());
+            newDocument.put(KEY_FIELD, cooldown.key().asString());
         }).exceptionally(throwable -> {
             this.logger.error(
                     "Failed to save cooldown for player {} with key {}",
@@ -71,12 +104,14 @@ public class CooldownDatabase {
         Preconditions.checkNotNull(uuid, "uuid cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        this.database.documentAsync(PLAYERS, uuid.toString()).thenComposeAsync(document -> {
-            if (document == null)
-                return null;
+        this.database.removeAsync(COOLDOWNS, documentId(uuid, key)).exceptionally(throwable -> {
+            this.logger.error(
+                    "Failed to delete cooldown for player {} with key {}",
+                    uuid, key,
+                    throwable
+            );
 
-            return this.database.removeAsync(PLAYERS, uuid.toString(), "cooldowns." + key.asString())
-                    .thenApply(success -> null);
+            return false;
         });
     }
 
@@ -85,66 +120,92 @@ public class CooldownDatabase {
      *
      * @return A list of all active Cooldowns.
      */
-    @SuppressWarnings("PatternValidation")
     public List<Cooldown> loadAllCooldowns() {
         if (NiveriaAPI.isUnitTest())
             return new ArrayList<>();
 
+        migrateLegacyCooldowns();
+
         List<Cooldown> activeCooldowns = new ArrayList<>();
-        this.database.collection(PLAYERS).find().forEach(document -> {
-            UUID uuid = UUID.fromString(document.getString("_id"));
-            Document cooldownsDocument = document.get("cooldowns", Document.class);
+        this.database.collection(COOLDOWNS)
+                .find(Filters.gt(EXPIRATION_TIME, new Date()))
+                .forEach(document -> {
+                    Cooldown cooldown = fromDocument(document);
+                    if (cooldown != null)
+                        activeCooldowns.add(cooldown);
+                });
 
-            if (cooldownsDocument == null)
-                return;
+        return activeCooldowns;
+    }
 
-            for (String key : cooldownsDocument.keySet()) {
-                Document cooldownDocument = cooldownsDocument.get(key, Document.class);
+    /**
+     * Loads the active cooldowns of a single player from the database.
+     * This call blocks on the database.
+     * <p>
+     * While the legacy migration is pending, the player's own legacy cooldowns
+     * are read as well instead of waiting for the migration of every player.
+     *
+     * @param uuid The UUID of the player.
+     * @return A list of the player's active Cooldowns.
+     */
+    public List<Cooldown> loadCooldowns(UUID uuid) {
+        Preconditions.checkNotNull(uuid, "uuid cannot be null");
 
-                Key adventureKey;
-                try {
-                    adventureKey = Key.key(key);
-                } catch (InvalidKeyException e) {
-                    continue;
-                }
+        if (NiveriaAPI.isUnitTest())
+            return new ArrayList<>();
 
-                long expirationTime = cooldownDocument.getLong(EXPIRATION_TIME);
-                activeCooldowns.add(new Cooldown(uuid, adventureKey, expirationTime, true));
-            }
-        });
+        // Read first: the migration writes to the cooldowns collection before unsetting the legacy field
+        List<Cooldown> legacyCooldowns = this.legacyMigrationPending ? loadLegacyCooldowns(uuid) : List.of();
+
+        List<Cooldown> activeCooldowns = new ArrayList<>();
+        Set<Key> keys = new HashSet<>();
+        this.database.collection(COOLDOWNS)
+                .find(Filters.and(Filters.eq(UUID_FIELD, uuid.toString()), Filters.gt(EXPIRATION_TIME, new Date())))
+                .forEach(document -> {
+                    Cooldown cooldown = fromDocument(document);
+                    if (cooldown != null && keys.add(cooldown.key()))
+                        activeCooldowns.add(cooldown);
+                });
+
+        for (Cooldown cooldown : legacyCooldowns)
+            if (keys.add(cooldown.key()))
+                activeCooldowns.add(cooldown);
 
         return activeCooldowns;
     }
 
     /**
-     * Deletes all expired cooldowns from the database.
+     * Moves the cooldowns stored in the {@code cooldowns} sub-document of player
+     * documents by older versions to the cooldowns collection, dropping the
+     * expired ones. Does nothing if no player document had a {@code cooldowns}
+     * field when this CooldownDatabase was created, or if the migration already
+     * succeeded. A failed migration is attempted again on the next call.
      */
-    @SuppressWarnings("PatternValidation")
-    public void deleteExpiredCooldowns() {
-        this.database.collection(PLAYERS).find().forEach(document -> {
-            UUID uuid = UUID.fromString(document.getString("_id"));
-            Document cooldownsDocument = document.get("cooldowns", Document.class);
+    public void migrateLegacyCooldowns() {
+        if (!this.legacyMigrationPending)
+            return;
 
-            if (cooldownsDocument == null)
+        synchronized (this) {
+            if (!this.legacyMigrationPending)
                 return;
 
-            for (String key : cooldownsDocument.keySet()) {
-                Document cooldownDocument = cooldownsDocument.get(key, Document.class);
-                long expirationTime = cooldownDocument.getLong(EXPIRATION_TIME);
-
-                if (System.currentTimeMillis() <= expirationTime)
-                    continue;
-
-                Key adventureKey;
-                try {
-                    adventureKey = Key.key(key);
-                } catch (InvalidKeyException e) {
-                    continue;
-                }
+            if (migrateLegacyCooldownDocuments())
+                this.legacyMigrationPending = false;
+        }
+    }
 
-                deleteCooldown(uuid, adventureKey);
-            }
-        });
+    /**
+     * Deletes all expired cooldowns from the database.
+     * <p>
+     * The TTL index already does this on the server, but its background task
+     * only runs about once a minute; this catches up with a single indexed delete.
+     */
+    public void deleteExpiredCooldowns() {
+        try {
+            this.database.collection(COOLDOWNS).deleteMany(Filters.lte(EXPIRATION_TIME, new Date()));
+        } catch (MongoException e) {
+            this.logger.error("Failed to delete expired cooldowns", e);
+        }
     }
 
     /**
@@ -155,19 +216,222 @@ public class CooldownDatabase {
     public void deleteAllCooldowns(UUID uuid) {
         Preconditions.checkNotNull(uuid, "uuid cannot be null");
 
-        this.database.documentAsync(PLAYERS, uuid.toString()).thenComposeAsync(document -> {
-            if (document == null)
-                return null;
-
-            return this.database.removeAsync(PLAYERS, uuid.toString(), "cooldowns")
-                    .thenApply(success -> null);
-        }).exceptionally(throwable -> {
+        this.database.removeManyAsync(COOLDOWNS, Filters.eq(UUID_FIELD, uuid.toString())).exceptionally(throwable -> {
             this.logger.error(
                     "Failed to remove all cooldown for player {}",
                     uuid,
                     throwable
             );
-            return false;
+            return null;
+        });
+    }
+
+    /**
+     * Deletes all cooldowns with a key from the database, including those of
+     * players whose cooldowns are not loaded.
+     *
+     * @param key The Key of the cooldowns to delete.
+     */
+    public void deleteAllCooldowns(Key key) {
+        Preconditions.checkNotNull(key, "key cannot be null");
+
+        this.database.removeManyAsync(COOLDOWNS, Filters.eq(KEY_FIELD, key.asString())).exceptionally(throwable -> {
+            this.logger.error(
+                    "Failed to remove all cooldowns with key {}",
+                    key,
+                    throwable
+            );
+            return null;
+        });
+    }
+
+    /**
+     * Deletes all cooldowns whose key is in a namespace from the database,
+     * including those of players whose cooldowns are not loaded.
+     *
+     * @param namespace The namespace of the cooldowns to delete.
+     */
+    public void deleteAllCooldownsByNamespace(String namespace) {
+        Preconditions.checkNotNull(namespace, "namespace cannot be null");
+
+        Bson filter = Filters.regex(KEY_FIELD, "^" + Pattern.quote(namespace + ":"));
+        this.database.removeManyAsync(COOLDOWNS, filter).exceptionally(throwable -> {
+            this.logger.error(
+                    "Failed to remove all cooldowns with namespace {}",
+                    namespace,
+                    throwable
+            );
+            return null;
         });
     }
+
+    /**
+     * Creates the TTL index on {@code expirationTime} and the index on
+     * {@code uuid}, remembering whether player documents still hold legacy cooldowns.
+     */
+    private void createIndexes() {
+        try {
+            this.legacyMigrationPending = this.database.collection(PLAYERS)
+                    .find(Filters.exists(LEGACY_COOLDOWNS))
+                    .projection(Projections.include("_id"))
+                    .first() != null;
+
+            MongoCollection<Document> collection = this.database.collection(COOLDOWNS);
+            collection.createIndex(Indexes.ascending(EXPIRATION_TIME), new IndexOptions().expireAfter(0L, TimeUnit.SECONDS));
+            collection.createIndex(Indexes.ascending(UUID_FIELD));
+        } catch (MongoException e) {
+            this.logger.error("Failed to create the indexes of the cooldowns collection", e);
+        }
+    }
+
+    /**
+     * Reads the active cooldowns a single player document holds in its legacy
+     * {@code cooldowns} field, without migrating them.
+     *
+     * @param uuid The UUID of the player.
+     * @return The player's active legacy Cooldowns.
+     */
+    private List<Cooldown> loadLegacyCooldowns(UUID uuid) {
+        Document document = this.database.collection(PLAYERS)
+                .find(Filters.eq("_id", uuid.toString()))
+                .projection(Projections.include(LEGACY_COOLDOWNS))
+                .first();
+
+        Document cooldownsDocument = document == null ? null : document.get(LEGACY_COOLDOWNS, Document.class);
+        if (cooldownsDocument == null)
+            return List.of();
+
+        return legacyCooldowns(uuid, cooldownsDocument, System.currentTimeMillis());
+    }
+
+    /**
+     * Copies the active legacy cooldowns to the cooldowns collection, then
+     * removes the {@code cooldowns} field of the player documents that were read.
+     * The field is only removed once every cooldown was written.
+     *
+     * @return true if the migration succeeded, false otherwise
+     */
+    private boolean migrateLegacyCooldownDocuments() {
+        try {
+            MongoCollection<Document> players = this.database.collection(PLAYERS);
+            MongoCollection<Document> cooldowns = this.database.collection(COOLDOWNS);
+            long now = System.currentTimeMillis();
+
+            List<WriteModel<Document>> writes = new ArrayList<>();
+            List<String> playerIds = new ArrayList<>();
+            int migrated = 0;
+            for (Document document : players.find(Filters.exists(LEGACY_COOLDOWNS)).projection(Projections.include(LEGACY_COOLDOWNS))) {
+                String playerId = document.getString("_id");
+                playerIds.add(playerId);
+
+                Document cooldownsDocument = document.get(LEGACY_COOLDOWNS, Document.class);
+                if (cooldownsDocument == null)
+                    continue;
+
+                UUID uuid;
+                try {
+                    uuid = UUID.fromString(playerId);
+                } catch (IllegalArgumentException e) {
+                    continue;
+                }
+
+                for (Cooldown cooldown : legacyCooldowns(uuid, cooldownsDocument, now)) {
+                    String id = documentId(uuid, cooldown.key());
+                    writes.add(new ReplaceOneModel<>(Filters.eq("_id", id),
+                            toDocument(id, uuid, cooldown.key(), cooldown.expirationTime()), new ReplaceOptions().upsert(true)));
+
+                    if (writes.size() < MIGRATION_BATCH_SIZE)
+                        continue;
+
+                    cooldowns.bulkWrite(writes, new BulkWriteOptions().ordered(false));
+                    migrated += writes.size();
+                    writes.clear();
+                }
+            }
+
+            if (!writes.isEmpty()) {
+                cooldowns.bulkWrite(writes, new BulkWriteOptions().ordered(false));
+                migrated += writes.size();
+            }
+
+            // Only the documents that were read, those found later are migrated by the next attempt
+            for (int i = 0; i < playerIds.size(); i += MIGRATION_BATCH_SIZE) {
+                List<String> batch = playerIds.subList(i, Math.min(i + MIGRATION_BATCH_SIZE, playerIds.size()));
+                players.updateMany(Filters.in("_id", batch), Updates.unset(LEGACY_COOLDOWNS));
+            }
+
+            if (migrated > 0)
+                this.logger.info("Migrated {} active cooldowns from player documents to the cooldowns collection.", migrated);
+
+            return true;
+        } catch (MongoException e) {
+            this.logger.error("Failed to migrate cooldowns from player documents", e);
+            return false;
+        }
+    }
+
+    /**
+     * Parses the active cooldowns of a legacy {@code cooldowns} sub-document,
+     * skipping expired entries and invalid keys.
+     *
+     * @param uuid              The UUID of the player.
+     * @param cooldownsDocument The legacy sub-document, by cooldown key.
+     * @param now               The current time in milliseconds.
+     * @return The active Cooldowns.
+     */
+    @SuppressWarnings("PatternValidation")
+    private static List<Cooldown> legacyCooldowns(UUID uuid, Document cooldownsDocument, long now) {
+        List<Cooldown> cooldowns = new ArrayList<>();
+        for (String key : cooldownsDocument.keySet()) {
+            Document cooldownDocument = cooldownsDocument.get(key, Document.class);
+            Long expirationTime = cooldownDocument == null ? null : cooldownDocument.getLong(EXPIRATION_TIME);
+            if (expirationTime == null || expirationTime <= now)
+                continue;
+
+            Key adventureKey;
+            try {
+                adventureKey = Key.key(key);
+            } catch (InvalidKeyException e) {
+                continue;
+            }
+
+            cooldowns.add(new Cooldown(uuid, adventureKey, expirationTime, true));
+        }
+
+        return cooldowns;
+    }
+
+    /**
+     * Gets the id of the document storing a cooldown.
+     *
+     * @param uuid The UUID of the player.
+     * @param key  The Key of the cooldown.
+     * @return The document id.
+     */
+    private static String documentId(UUID uuid, Key key) {
+        return uuid + "/" + key.asString();
+    }
+
+    private static Document toDocument(String id, UUID uuid, Key key, long expirationTime) {
+        return new Document("_id", id)
+                .append(UUID_FIELD, uuid.toString())
+                .append(KEY_FIELD, key.asString())
+                .append(EXPIRATION_TIME, new Date(expirationTime));
+    }
+
+    @Nullable
+    @SuppressWarnings("PatternValidation")
+    private static Cooldown fromDocument(Document document) {
+        String uuid = document.getString(UUID_FIELD);
+        String key = document.getString(KEY_FIELD);
+        Date expirationTime = document.getDate(EXPIRATION_TIME);
+        if (uuid == null || key == null || expirationTime == null)
+            return null;
+
+        try {
+            return new Cooldown(UUID.fromString(uuid), Key.key(key), expirationTime.getTime(), true);
+        } catch (IllegalArgumentException | InvalidKeyException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package toutouchien.niveriaapi.cooldown;
+
+import com.google.common.base.Preconditions;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Listener loading the persistent cooldowns of players when they log in and
+ * unloading them after they quit, when the {@link CooldownManager} uses lazy loading.
+ */
+@NullMarked
+class CooldownListener implements Listener {
+    private final CooldownManager cooldownManager;
+
+    /**
+     * Constructs a CooldownListener for the specified CooldownManager.
+     *
+     * @param cooldownManager The CooldownManager instance.
+     */
+    CooldownListener(CooldownManager cooldownManager) {
+        Preconditions.checkNotNull(cooldownManager, "cooldownManager cannot be null");
+        this.cooldownManager = cooldownManager;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED)
+            return;
+
+        // Runs on the login thread, so the cooldowns are in memory before the player joins
+        this.cooldownManager.loadCooldowns(event.getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        this.cooldownManager.scheduleUnload(event.getPlayer().getUniqueId());
+    }
+}
@@ -10,12 +10,13 @@ import toutouchien.niveriaapi.NiveriaAPI;
 import toutouchien.niveriaapi.utils.Task;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * A comprehensive cooldown management system for plugins using Keys,
@@ -57,11 +58,15 @@ import java.util.concurrent.TimeUnit;
  */
 @NullMarked
 public class CooldownManager {
-    private static final long DEFAULT_CLEANUP_MINUTES = 3L;
+    private static final long CLEANUP_INTERVAL_MILLIS = 1000L;
     private static final long DATABASE_CLEANUP_MINUTES = 15L; // Less frequent DB cleanup
 
     private final NiveriaAPI plugin;
-    private final Map<CompositeKey, Cooldown> cooldowns = new ConcurrentHashMap<>();
+    private final CooldownStore cooldowns = new CooldownStore();
+    private final List<Consumer<Cooldown>> expirationListeners = new CopyOnWriteArrayList<>();
+    private final Map<UUID, ScheduledTask> pendingUnloads = new ConcurrentHashMap<>();
+    private final boolean lazyLoading;
+    private final Duration unloadDelay;
     @Nullable
     private final ScheduledTask cleanupTask;
     @Nullable
@@ -76,13 +81,37 @@ public class CooldownManager {
      * @param database The database implementation for persistent cooldowns. Must not be null.
      */
     public CooldownManager(NiveriaAPI plugin, @Nullable CooldownDatabase database) {
+        this(plugin, database, false, Duration.ZERO);
+    }
+
+    /**
+     * Constructs a new CooldownManager.
+     * <p>
+     * With lazy loading, persistent cooldowns are not all loaded at startup.
+     * They are loaded for a player when they log in, and unloaded from memory
+     * {@code unloadDelay} after they quit, so memory scales with online players.
+     * Cooldowns of players that are not loaded are still saved to the database.
+     *
+     * @param plugin      The main plugin instance.
+     * @param database    The database implementation for persistent cooldowns.
+     * @param lazyLoading Whether to load persistent cooldowns per player on login.
+     * @param unloadDelay How long the cooldowns of a player stay in memory after they quit, with lazy loading.
+     */
+    public CooldownManager(NiveriaAPI plugin, @Nullable CooldownDatabase database, boolean lazyLoading, Duration unloadDelay) {
         Preconditions.checkNotNull(plugin, "plugin cannot be null");
+        Preconditions.checkNotNull(unloadDelay, "unloadDelay cannot be null");
+        Preconditions.checkArgument(!unloadDelay.isNegative(), "unloadDelay cannot be negative");
 
         this.plugin = plugin;
         this.database = database;
+        this.lazyLoading = lazyLoading && database != null;
+        this.unloadDelay = unloadDelay;
         loadPersistentCooldowns();
 
-        this.cleanupTask = Task.asyncRepeat(ignored -> cleanupExpiredCooldowns(), plugin, DEFAULT_CLEANUP_MINUTES, DEFAULT_CLEANUP_MINUTES, TimeUnit.MINUTES);
+        if (this.lazyLoading)
+            plugin.getServer().getPluginManager().registerEvents(new CooldownListener(this), plugin);
+
+        this.cleanupTask = Task.asyncRepeat(ignored -> cleanupExpiredCooldowns(), plugin, CLEANUP_INTERVAL_MILLIS, CLEANUP_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
 
         if (database == null) {
             this.databaseCleanupTask = null;
@@ -95,24 +124,88 @@ public class CooldownManager {
     /**
      * Loads persistent cooldowns from the database into memory.
      * Should be called on startup. Runs asynchronously.
+     * <p>
+     * With lazy loading, only the cooldowns of players already online are loaded.
      */
     private void loadPersistentCooldowns() {
         if (this.database == null)
             return;
 
+        if (this.lazyLoading) {
+            List<UUID> onlinePlayers = plugin.getServer().getOnlinePlayers().stream()
+                    .map(Player::getUniqueId)
+                    .toList();
+
+            Task.async(task -> {
+                database.migrateLegacyCooldowns();
+                onlinePlayers.forEach(this::loadCooldowns);
+            }, plugin);
+            return;
+        }
+
         Task.async(task -> {
             List<Cooldown> persistentCooldowns = database.loadAllCooldowns();
             persistentCooldowns.forEach(cooldown -> {
                 if (cooldown.expired())
                     return;
 
-                cooldowns.put(new CompositeKey(cooldown.key(), cooldown.uuid()), cooldown);
+                cooldowns.put(cooldown);
             });
 
             plugin.getLogger().info("Loaded " + persistentCooldowns.size() + " active persistent cooldowns.");
         }, plugin);
     }
 
+    /**
+     * Loads the persistent cooldowns of a player into memory and cancels
+     * their pending unload, if any. Does nothing without lazy loading.
+     * This call blocks on the database.
+     *
+     * @param uuid The UUID of the player.
+     */
+    void loadCooldowns(UUID uuid) {
+        Preconditions.checkNotNull(uuid, "uuid cannot be null");
+
+        ScheduledTask pendingUnload = pendingUnloads.remove(uuid);
+        if (pendingUnload != null)
+            pendingUnload.cancel();
+
+        if (!this.lazyLoading || this.database == null)
+            return;
+
+        database.loadCooldowns(uuid).forEach(cooldown -> {
+            if (cooldown.expired())
+                return;
+
+            // A cooldown set while loading is more recent than the stored one
+            cooldowns.putIfAbsent(cooldown);
+        });
+    }
+
+    /**
+     * Schedules the persistent cooldowns of a player to be unloaded from
+     * memory after the unload delay. Does nothing without lazy loading.
+     *
+     * @param uuid The UUID of the player.
+     */
+    void scheduleUnload(UUID uuid) {
+        Preconditions.checkNotNull(uuid, "uuid cannot be null");
+
+        if (!this.lazyLoading)
+            return;
+
+        ScheduledTask unloadTask = Task.asyncLater(task -> {
+            if (!pendingUnloads.remove(uuid, task) || plugin.getServer().getPlayer(uuid) != null)
+                return;
+
+            cooldowns.removeAll(uuid, Cooldown::persistent);
+        }, plugin, unloadDelay.toMillis(), TimeUnit.MILLISECONDS);
+
+        ScheduledTask previous = pendingUnloads.put(uuid, unloadTask);
+        if (previous != null)
+            previous.cancel();
+    }
+
     /**
      * Sets a cooldown for a UUID.
      *
@@ -132,7 +225,7 @@ public class CooldownManager {
             return null;
 
         Cooldown cooldown = new Cooldown(uuid, key, duration.toMillis() + System.currentTimeMillis(), persistent);
-        cooldowns.put(new CompositeKey(key, uuid), cooldown);
+        cooldowns.put(cooldown);
 
         if (persistent && this.database != null)
             database.saveCooldown(cooldown);
@@ -306,8 +399,7 @@ public class CooldownManager {
         Preconditions.checkNotNull(uuid, "uuid cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        CompositeKey compositeKey = new CompositeKey(key, uuid);
-        Cooldown removed = cooldowns.remove(compositeKey);
+        Cooldown removed = cooldowns.remove(uuid, key);
 
         boolean hasToRemove = (removed != null && removed.persistent() && removeFromDatabase) || (removed == null && removeFromDatabase);
         if (hasToRemove && this.database != null)
@@ -335,7 +427,7 @@ public class CooldownManager {
 
     /**
      * Gets a cooldown by UUID and identifier.
-     * Checks memory first.
+     * Checks memory first. Expired cooldowns are removed by the cleanup task.
      *
      * @param uuid The UUID.
      * @param key  The cooldown identifier.
@@ -346,13 +438,9 @@ public class CooldownManager {
         Preconditions.checkNotNull(uuid, "uuid cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        CompositeKey compositeKey = new CompositeKey(key, uuid);
-        Cooldown cooldown = cooldowns.get(compositeKey);
-
-        if (cooldown != null && cooldown.expired()) {
-            cooldowns.remove(compositeKey);
+        Cooldown cooldown = cooldowns.get(uuid, key);
+        if (cooldown == null || cooldown.expired())
             return null;
-        }
 
         return cooldown;
     }
@@ -433,14 +521,44 @@ public class CooldownManager {
         return remainingTime(player.getUniqueId(), key);
     }
 
+    /**
+     * Gets the remaining time of a cooldown in milliseconds.
+     * Unlike {@link #remainingTime(UUID, Key)}, this returns a primitive instead of a {@link Duration}.
+     *
+     * @param uuid The UUID.
+     * @param key  The cooldown identifier.
+     * @return The remaining time in milliseconds, or 0 if not in cooldown.
+     */
+    public long remainingMillis(UUID uuid, Key key) {
+        Preconditions.checkNotNull(uuid, "uuid cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+
+        Cooldown cooldown = cooldowns.get(uuid, key);
+        return cooldown == null ? 0L : cooldown.remainingMillis();
+    }
+
+    /**
+     * Gets the remaining time of a cooldown for a player in milliseconds.
+     *
+     * @param player The player.
+     * @param key    The cooldown identifier.
+     * @return The remaining time in milliseconds, or 0 if not in cooldown.
+     */
+    public long remainingMillis(Player player, Key key) {
+        Preconditions.checkNotNull(player, "player cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+
+        return remainingMillis(player.getUniqueId(), key);
+    }
+
     /**
      * Gets the total number of active cooldowns in memory.
-     * Note: This does not necessarily reflect the number of persistent cooldowns in the database.
+     * Note: This does not necessarily reflect the number of persistent cooldowns in the database,
+     * and may include cooldowns that expired less than a second ago.
      *
      * @return The number of active cooldowns in memory.
      */
     public int size() {
-        cleanupExpiredCooldowns();
         return cooldowns.size();
     }
 
@@ -478,7 +596,7 @@ public class CooldownManager {
     public void removeAllCooldowns(UUID uuid, boolean removeFromDatabase) {
         Preconditions.checkNotNull(uuid, "uuid cannot be null");
 
-        cooldowns.entrySet().removeIf(entry -> entry.getKey().uuid() == uuid);
+        cooldowns.removeAll(uuid, cooldown -> true);
 
         if (removeFromDatabase && this.database != null)
             database.deleteAllCooldowns(uuid);
@@ -514,35 +632,19 @@ public class CooldownManager {
      * Removes all cooldowns associated with a specific key from memory.
      *
      * @param key                The cooldown identifier.
-     * @param removeFromDatabase Whether to attempt to remove persistent cooldowns with this key from the database as well.
+     * @param removeFromDatabase Whether to attempt to remove persistent cooldowns with this key from the database as well,
+     *                           including those of players whose cooldowns are not loaded.
      *                           Set to false to remove from memory only.
      * @return The number of cooldowns removed from memory.
      */
     public int removeAllCooldownsByKey(Key key, boolean removeFromDatabase) {
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        int count = 0;
-        List<CompositeKey> keysToRemove = new ArrayList<>();
-        cooldowns.forEach(((compositeKey, cooldown) -> {
-            if (!compositeKey.key().equals(key))
-                return;
-
-            keysToRemove.add(compositeKey);
-        }));
-
-        for (CompositeKey compositeKey : keysToRemove) {
-            Cooldown removed = cooldowns.remove(compositeKey);
-            if (removed == null)
-                continue;
-
-            count++;
-            if (!removed.persistent() || !removeFromDatabase || this.database == null)
-                continue;
-
-            database.deleteCooldown(removed.uuid(), removed.key());
-        }
+        List<Cooldown> removedCooldowns = cooldowns.removeAllByKey(key);
+        if (removeFromDatabase && this.database != null)
+            database.deleteAllCooldowns(key);
 
-        return count;
+        return removedCooldowns.size();
     }
 
 
@@ -563,45 +665,67 @@ public class CooldownManager {
      * Removes all cooldowns associated with a specific namespace from memory.
      *
      * @param namespace          The namespace.
-     * @param removeFromDatabase Whether to attempt to remove persistent cooldowns with this namespace from the database as well.
+     * @param removeFromDatabase Whether to attempt to remove persistent cooldowns with this namespace from the database as well,
+     *                           including those of players whose cooldowns are not loaded.
      *                           Set to false to remove from memory only.
      * @return The number of cooldowns removed from memory.
      */
     public int removeAllCooldownsByNamespace(String namespace, boolean removeFromDatabase) {
         Preconditions.checkNotNull(namespace, "namespace cannot be null");
 
-        int count = 0;
-        List<CompositeKey> keysToRemove = new ArrayList<>();
-
-        // Find keys to remove from memory
-        cooldowns.forEach((compositeKey, cooldown) -> {
-            if (!compositeKey.key().namespace().equals(namespace))
-                return;
+        List<Cooldown> removedCooldowns = cooldowns.removeAllByNamespace(namespace);
+        if (removeFromDatabase && this.database != null)
+            database.deleteAllCooldownsByNamespace(namespace);
 
-            keysToRemove.add(compositeKey);
-        });
+        return removedCooldowns.size();
+    }
 
-        for (CompositeKey key : keysToRemove) {
-            Cooldown removed = cooldowns.remove(key);
-            if (removed == null)
-                continue;
+    /**
+     * Registers a listener called when a cooldown expires.
+     * <p>
+     * Listeners are called from the asynchronous cleanup task, at most about
+     * a second after the cooldown expired. They are not called for cooldowns
+     * that are removed or replaced before expiring.
+     *
+     * @param listener The listener to register.
+     */
+    public void addExpirationListener(Consumer<Cooldown> listener) {
+        Preconditions.checkNotNull(listener, "listener cannot be null");
 
-            count++;
-            if (!removed.persistent() || !removeFromDatabase || this.database == null)
-                continue;
+        expirationListeners.add(listener);
+    }
 
-            database.deleteCooldown(removed.uuid(), removed.key());
-        }
+    /**
+     * Unregisters a listener registered with {@link #addExpirationListener(Consumer)}.
+     *
+     * @param listener The listener to unregister.
+     * @return Whether the listener was registered.
+     */
+    public boolean removeExpirationListener(Consumer<Cooldown> listener) {
+        Preconditions.checkNotNull(listener, "listener cannot be null");
 
-        return count;
+        return expirationListeners.remove(listener);
     }
 
     /**
-     * Cleans up expired cooldowns from the in-memory map.
-     * This runs regularly via the cleanup task.
+     * Cleans up expired cooldowns from memory and notifies the expiration listeners.
+     * This runs every second via the cleanup task and only touches expired cooldowns.
      */
     public void cleanupExpiredCooldowns() {
-        cooldowns.entrySet().removeIf(entry -> entry.getValue().expired());
+        List<Cooldown> expired = cooldowns.expire(System.currentTimeMillis());
+        if (expired.isEmpty() || expirationListeners.isEmpty())
+            return;
+
+        for (Cooldown cooldown : expired) {
+            for (Consumer<Cooldown> listener : expirationListeners) {
+                try {
+                    listener.accept(cooldown);
+                } catch (Exception e) {
+                    plugin.getSLF4JLogger().error("Cooldown expiration listener failed for {} with key {}",
+                            cooldown.uuid(), cooldown.key(), e);
+                }
+            }
+        }
     }
 
     /**
@@ -622,11 +746,8 @@ public class CooldownManager {
 
         if (databaseCleanupTask != null && !databaseCleanupTask.isCancelled() && this.database != null)
             databaseCleanupTask.cancel();
-    }
 
-    /**
-     * Composite key for the cooldown map.
-     */
-    private record CompositeKey(Key key, UUID uuid) {
+        pendingUnloads.values().forEach(ScheduledTask::cancel);
+        pendingUnloads.clear();
     }
 }
\ No newline at end of file
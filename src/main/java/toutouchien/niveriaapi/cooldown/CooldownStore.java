@@ -0,0 +1,250 @@
+package toutouchien.niveriaapi.cooldown;
+
+import com.google.common.base.Preconditions;
+import net.kyori.adventure.key.Key;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * In-memory storage of the cooldowns of a {@link CooldownManager}.
+ * <p>
+ * Cooldowns are stored in a two-level map, by key then by UUID, so lookups
+ * do not allocate a composite key and the inner maps double as the index
+ * by key. Cooldowns are also indexed by UUID and by key namespace so bulk
+ * removals only touch the matching entries, and kept in a min-heap ordered
+ * by expiration time so removing expired entries only visits the expired
+ * ones instead of scanning every cooldown.
+ * <p>
+ * Lookups are lock-free. Mutations take a single lock so the indexes and
+ * the heap stay consistent with the main map.
+ */
+@NullMarked
+final class CooldownStore {
+    private final Map<Key, Map<UUID, Cooldown>> cooldowns = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<Key>> keysByUuid = new ConcurrentHashMap<>();
+    private final Map<String, Set<Key>> keysByNamespace = new ConcurrentHashMap<>();
+    private final PriorityQueue<Cooldown> expirations = new PriorityQueue<>(Comparator.comparingLong(Cooldown::expirationTime));
+    private final Object lock = new Object();
+    private volatile int size;
+
+    /**
+     * Gets a cooldown, whether it expired or not.
+     *
+     * @param uuid The UUID.
+     * @param key  The cooldown identifier.
+     * @return The cooldown, or null if not stored.
+     */
+    @Nullable
+    Cooldown get(UUID uuid, Key key) {
+        Map<UUID, Cooldown> cooldownsByUuid = this.cooldowns.get(key);
+        return cooldownsByUuid == null ? null : cooldownsByUuid.get(uuid);
+    }
+
+    /**
+     * Stores a cooldown, replacing the previous cooldown with the same UUID and key.
+     *
+     * @param cooldown The cooldown to store.
+     */
+    void put(Cooldown cooldown) {
+        Preconditions.checkNotNull(cooldown, "cooldown cannot be null");
+
+        synchronized (this.lock) {
+            Cooldown previous = this.cooldownsByUuid(cooldown.key()).put(cooldown.uuid(), cooldown);
+            if (previous == null)
+                this.index(cooldown.uuid(), cooldown.key());
+
+            this.addExpiration(cooldown);
+        }
+    }
+
+    /**
+     * Stores a cooldown unless a cooldown with the same UUID and key is already stored.
+     *
+     * @param cooldown The cooldown to store.
+     * @return Whether the cooldown was stored.
+     */
+    boolean putIfAbsent(Cooldown cooldown) {
+        Preconditions.checkNotNull(cooldown, "cooldown cannot be null");
+
+        synchronized (this.lock) {
+            if (this.cooldownsByUuid(cooldown.key()).putIfAbsent(cooldown.uuid(), cooldown) != null)
+                return false;
+
+            this.index(cooldown.uuid(), cooldown.key());
+            this.addExpiration(cooldown);
+            return true;
+        }
+    }
+
+    /**
+     * Removes a cooldown.
+     *
+     * @param uuid The UUID.
+     * @param key  The cooldown identifier.
+     * @return The removed cooldown, or null if none was stored.
+     */
+    @Nullable
+    Cooldown remove(UUID uuid, Key key) {
+        synchronized (this.lock) {
+            Map<UUID, Cooldown> cooldownsByUuid = this.cooldowns.get(key);
+            Cooldown removed = cooldownsByUuid == null ? null : cooldownsByUuid.remove(uuid);
+            if (removed != null)
+                this.unindex(uuid, key);
+
+            return removed;
+        }
+    }
+
+    /**
+     * Removes the cooldowns of a UUID matching a filter.
+     *
+     * @param uuid   The UUID.
+     * @param filter The filter cooldowns must match to be removed.
+     * @return The removed cooldowns.
+     */
+    List<Cooldown> removeAll(UUID uuid, Predicate<Cooldown> filter) {
+        synchronized (this.lock) {
+            Set<Key> keys = this.keysByUuid.get(uuid);
+            if (keys == null)
+                return List.of();
+
+            List<Cooldown> removed = new ArrayList<>();
+            for (Key key : List.copyOf(keys)) {
+                Cooldown cooldown = this.get(uuid, key);
+                if (cooldown == null || !filter.test(cooldown))
+                    continue;
+
+                this.cooldowns.get(key).remove(uuid);
+                this.unindex(uuid, key);
+                removed.add(cooldown);
+            }
+
+            return removed;
+        }
+    }
+
+    /**
+     * Removes every cooldown with a key.
+     *
+     * @param key The cooldown identifier.
+     * @return The removed cooldowns.
+     */
+    List<Cooldown> removeAllByKey(Key key) {
+        synchronized (this.lock) {
+            Map<UUID, Cooldown> cooldownsByUuid = this.cooldowns.get(key);
+            if (cooldownsByUuid == null)
+                return List.of();
+
+            List<Cooldown> removed = new ArrayList<>(cooldownsByUuid.values());
+            cooldownsByUuid.clear();
+            for (Cooldown cooldown : removed)
+                this.unindex(cooldown.uuid(), key);
+
+            return removed;
+        }
+    }
+
+    /**
+     * Removes every cooldown whose key has a namespace.
+     *
+     * @param namespace The namespace.
+     * @return The removed cooldowns.
+     */
+    List<Cooldown> removeAllByNamespace(String namespace) {
+        synchronized (this.lock) {
+            Set<Key> keys = this.keysByNamespace.get(namespace);
+            if (keys == null)
+                return List.of();
+
+            List<Cooldown> removed = new ArrayList<>();
+            for (Key key : List.copyOf(keys))
+                removed.addAll(this.removeAllByKey(key));
+
+            return removed;
+        }
+    }
+
+    /**
+     * Removes every cooldown that expired at a given time.
+     *
+     * @param now The current time in milliseconds since epoch.
+     * @return The removed cooldowns, in expiration order.
+     */
+    List<Cooldown> expire(long now) {
+        synchronized (this.lock) {
+            List<Cooldown> expired = new ArrayList<>();
+            Cooldown next;
+            while ((next = this.expirations.peek()) != null && next.expirationTime() <= now) {
+                this.expirations.poll();
+
+                // Replaced or removed cooldowns are left in the heap and skipped here
+                Map<UUID, Cooldown> cooldownsByUuid = this.cooldowns.get(next.key());
+                if (cooldownsByUuid == null || !cooldownsByUuid.remove(next.uuid(), next))
+                    continue;
+
+                this.unindex(next.uuid(), next.key());
+                expired.add(next);
+            }
+
+            return expired;
+        }
+    }
+
+    /**
+     * Gets the number of stored cooldowns.
+     *
+     * @return The number of stored cooldowns, including expired ones not removed yet.
+     */
+    int size() {
+        return this.size;
+    }
+
+    private void addExpiration(Cooldown cooldown) {
+        this.expirations.add(cooldown);
+
+        // Drop the entries of replaced and removed cooldowns once they outnumber the live ones
+        if (this.expirations.size() > 1024 && this.expirations.size() > this.size * 2) {
+            this.expirations.clear();
+            this.cooldowns.values().forEach(cooldownsByUuid -> this.expirations.addAll(cooldownsByUuid.values()));
+        }
+    }
+
+    private Map<UUID, Cooldown> cooldownsByUuid(Key key) {
+        return this.cooldowns.computeIfAbsent(key, ignored -> new ConcurrentHashMap<>());
+    }
+
+    private void index(UUID uuid, Key key) {
+        this.size++;
+        this.keysByUuid.computeIfAbsent(uuid, ignored -> ConcurrentHashMap.newKeySet()).add(key);
+        this.keysByNamespace.computeIfAbsent(key.namespace(), ignored -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    private void unindex(UUID uuid, Key key) {
+        this.keysByUuid.computeIfPresent(uuid, (ignored, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+
+        this.size--;
+        Map<UUID, Cooldown> cooldownsByUuid = this.cooldowns.computeIfPresent(key,
+                (ignored, keyCooldowns) -> keyCooldowns.isEmpty() ? null : keyCooldowns);
+
+        if (cooldownsByUuid != null)
+            return;
+
+        this.keysByNamespace.computeIfPresent(key.namespace(), (ignored, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+}
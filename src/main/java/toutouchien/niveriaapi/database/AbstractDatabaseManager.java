@@ -1,24 +1,37 @@
 package toutouchien.niveriaapi.database;
 
+import com.github.benmanes.caffeine.cache.Ticker;
 import com.google.common.base.Preconditions;
 import com.mongodb.MongoException;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
 import com.mongodb.client.result.UpdateResult;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitScheduler;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import toutouchien.niveriaapi.database.exception.DefaultDocumentGenerationException;
+import toutouchien.niveriaapi.utils.Task;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -27,32 +40,64 @@ import java.util.function.Supplier;
  * Provides synchronous and asynchronous methods for CRUD operations
  * on documents within specified collections, with support for default
  * document creation and dot-notation key access.
+ * <p>
+ * Collections can opt into a write-behind document cache with
+ * {@link #enableCache(String, Duration, Duration)}. Cached documents are
+ * read from memory and only their changed fields are written back, either
+ * periodically or when {@link #evict(String, String)}, {@link #flushAll()}
+ * or {@link #shutdown()} is called.
+ * <p>
+ * Collections can also opt into write batching with
+ * {@link #enableBatching(String, int, Duration)}, which merges asynchronous
+ * single-field updates into periodic unordered {@code bulkWrite}s.
+ * <p>
+ * Asynchronous operations run on a dedicated, bounded {@link DatabaseExecutor}
+ * owned by this manager rather than on the server's shared async scheduler.
  */
 @NullMarked
 public class AbstractDatabaseManager {
+    private static final Object MISSING = new Object();
+
     private final Plugin plugin;
     private final Logger logger;
-    private final BukkitScheduler scheduler;
     private final MongoDatabase mongoDatabase;
+    private final DatabaseExecutor executor;
     private final Map<String, Supplier<Document>> defaultDocuments;
     private final Map<String, MongoCollection<Document>> collectionCache;
+    private final Map<String, DocumentCache> documentCaches;
+    private final Map<String, WriteBatcher> writeBatchers;
 
     /**
-     * Creates a new database manager bound to a specific plugin and MongoDB database.
+     * Creates a new database manager bound to a specific plugin and MongoDB database,
+     * with the default {@link DatabaseExecutor.Settings}.
      *
      * @param plugin        plugin used for scheduler and logging
      * @param mongoDatabase MongoDB database instance
      */
     public AbstractDatabaseManager(Plugin plugin, MongoDatabase mongoDatabase) {
+        this(plugin, mongoDatabase, DatabaseExecutor.Settings.DEFAULT);
+    }
+
+    /**
+     * Creates a new database manager bound to a specific plugin and MongoDB database.
+     *
+     * @param plugin           plugin used for scheduler and logging
+     * @param mongoDatabase    MongoDB database instance
+     * @param executorSettings settings of the executor running asynchronous operations
+     */
+    public AbstractDatabaseManager(Plugin plugin, MongoDatabase mongoDatabase, DatabaseExecutor.Settings executorSettings) {
         Preconditions.checkNotNull(plugin, "plugin cannot be null");
         Preconditions.checkNotNull(mongoDatabase, "mongoDatabase cannot be null");
+        Preconditions.checkNotNull(executorSettings, "executorSettings cannot be null");
 
         this.plugin = plugin;
         this.logger = plugin.getSLF4JLogger();
-        this.scheduler = plugin.getServer().getScheduler();
         this.mongoDatabase = mongoDatabase;
+        this.executor = new DatabaseExecutor(mongoDatabase.getName(), executorSettings, this.logger);
         this.defaultDocuments = new ConcurrentHashMap<>();
         this.collectionCache = new ConcurrentHashMap<>();
+        this.documentCaches = new ConcurrentHashMap<>();
+        this.writeBatchers = new ConcurrentHashMap<>();
 
         logger.info("Successfully connected to database '{}'.", mongoDatabase.getName());
     }
@@ -75,6 +120,230 @@ public class AbstractDatabaseManager {
                 mongoDatabase.getName(), collection);
     }
 
+    // --- Document Cache ---
+
+
+    /**
+     * Enables the write-behind document cache for a collection with default settings.
+     * <p>
+     * Pending changes are written back every 30 seconds and documents that
+     * were not accessed for 10 minutes are dropped from memory.
+     *
+     * @param collection collection name
+     * @see #enableCache(String, Duration, Duration)
+     */
+    public void enableCache(String collection) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+
+        this.enableCache(collection, Duration.ofSeconds(30), Duration.ofMinutes(10));
+    }
+
+    /**
+     * Enables the write-behind document cache for a collection.
+     * <p>
+     * Once enabled, documents of this collection are kept in memory after
+     * their first read, reads are served locally and writes only mark the
+     * changed fields dirty. Dirty fields are written back in the background
+     * every {@code flushInterval} with a single {@code $set}/{@code $unset}
+     * update per document.
+     * <p>
+     * Only enable the cache for collections that are not written to by other
+     * servers, as cached documents are never re-read from the database.
+     *
+     * @param collection        collection name
+     * @param flushInterval     interval between two background write-backs
+     * @param expireAfterAccess how long an unused document stays in memory
+     */
+    public void enableCache(String collection, Duration flushInterval, Duration expireAfterAccess) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+        Preconditions.checkNotNull(flushInterval, "flushInterval cannot be null");
+        Preconditions.checkNotNull(expireAfterAccess, "expireAfterAccess cannot be null");
+        Preconditions.checkArgument(flushInterval.isPositive(), "flushInterval must be positive");
+        Preconditions.checkArgument(expireAfterAccess.isPositive(), "expireAfterAccess must be positive");
+
+        DocumentCache documentCache = new DocumentCache(mongoDatabase.getName(), collection,
+                this.collection(collection), this.logger, task -> {
+                    if (!this.executor.tryExecute(task))
+                        task.run();
+                }, expireAfterAccess, Ticker.systemTicker());
+
+        DocumentCache previous = this.documentCaches.put(collection, documentCache);
+        if (previous != null)
+            previous.shutdown();
+
+        long intervalMillis = flushInterval.toMillis();
+        documentCache.flushTask(Task.asyncRepeat(ignored -> this.executor.tryExecute(documentCache::flushAll), plugin,
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS));
+
+        this.logger.info("Enabled document cache for database '{}', collection '{}' (flush every {} ms).",
+                mongoDatabase.getName(), collection, intervalMillis);
+    }
+
+    /**
+     * Checks whether the write-behind document cache is enabled for a collection.
+     *
+     * @param collection collection name
+     * @return {@code true} if the cache is enabled
+     */
+    public boolean cacheEnabled(String collection) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+
+        return this.documentCaches.containsKey(collection);
+    }
+
+    /**
+     * Writes back the pending changes of a cached document and removes it from the cache.
+     * <p>
+     * Does nothing if the cache is not enabled for the collection or the
+     * document is not cached. This call blocks on the database.
+     *
+     * @param collection collection name
+     * @param id         document id
+     */
+    public void evict(String collection, String id) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+        Preconditions.checkNotNull(id, "id cannot be null");
+
+        DocumentCache documentCache = this.documentCaches.get(collection);
+        if (documentCache != null)
+            documentCache.evict(id);
+    }
+
+    /**
+     * Asynchronously writes back the pending changes of a cached document and
+     * removes it from the cache.
+     *
+     * @param collection collection name
+     * @param id         document id
+     * @return future completed once the document was written back
+     */
+    public CompletableFuture<Void> evictAsync(String collection, String id) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+        Preconditions.checkNotNull(id, "id cannot be null");
+
+        DocumentCache documentCache = this.documentCaches.get(collection);
+        if (documentCache == null || documentCache.getIfPresent(id) == null)
+            return CompletableFuture.completedFuture(null);
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        this.runAsync(future, () -> {
+            try {
+                documentCache.evict(id);
+                future.complete(null);
+            } catch (Exception e) {
+                this.logger.error("Unexpected error during async cache eviction: database='{}', collection='{}', id='{}'",
+                        mongoDatabase.getName(), collection, id, e);
+                future.completeExceptionally(e);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Writes back the pending changes of every cached document and every
+     * pending write batch of every collection. This call blocks on the database.
+     */
+    public void flushAll() {
+        this.documentCaches.values().forEach(DocumentCache::flushAll);
+        this.writeBatchers.values().forEach(WriteBatcher::flush);
+    }
+
+    /**
+     * Stops the database executor, waits for queued operations to finish,
+     * then stops the background write-backs and writes back every pending change.
+     * <p>
+     * Managers created through {@code DatabaseManager} are shut down when
+     * NiveriaAPI disables, but plugins disabling earlier should call this
+     * from their own {@code onDisable}. Calling it more than once does nothing.
+     */
+    public void shutdown() {
+        if (this.executor.isShutdown())
+            return;
+
+        this.executor.shutdown(Duration.ofSeconds(10));
+
+        this.documentCaches.values().forEach(DocumentCache::shutdown);
+        this.documentCaches.clear();
+
+        this.writeBatchers.values().forEach(WriteBatcher::shutdown);
+        this.writeBatchers.clear();
+    }
+
+    /**
+     * Gets the executor running the asynchronous operations of this manager,
+     * e.g. to read its {@link DatabaseExecutor#metrics() metrics}.
+     *
+     * @return database executor
+     */
+    public DatabaseExecutor executor() {
+        return this.executor;
+    }
+
+    // --- Write Batching ---
+
+
+    /**
+     * Enables write batching for a collection with default settings: batches
+     * are written once they hold 500 documents, or at the latest after 100 ms.
+     *
+     * @param collection collection name
+     * @see #enableBatching(String, int, Duration)
+     */
+    public void enableBatching(String collection) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+
+        this.enableBatching(collection, 500, Duration.ofMillis(100));
+    }
+
+    /**
+     * Enables write batching for a collection.
+     * <p>
+     * Once enabled, {@link #setAsync(String, String, String, Object)},
+     * {@link #upsertAsync(String, String, String, Object)},
+     * {@link #incrementAsync(String, String, String, Number)} and
+     * {@link #removeAsync(String, String, String)} are queued instead of
+     * being sent one by one. Queued updates to the same document are merged,
+     * repeated updates to the same field are coalesced, and the whole batch
+     * is sent as a single unordered {@code bulkWrite}.
+     * <p>
+     * Futures of batched updates complete once their batch was written, with
+     * {@code false} if the document did not exist and the update was not an upsert.
+     * <p>
+     * Every other read or write of a document, such as the synchronous methods
+     * or deleting and replacing the document, first writes the batched updates
+     * still pending for that document, so operations are applied in the order
+     * they were issued and reads see the batched updates.
+     * <p>
+     * Collections using the document cache do not need batching, as cached
+     * updates never reach the database one by one.
+     *
+     * @param collection   collection name
+     * @param maxBatchSize number of documents after which a batch is written right away
+     * @param maxDelay     maximum time an update waits before its batch is written
+     */
+    public void enableBatching(String collection, int maxBatchSize, Duration maxDelay) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+        Preconditions.checkNotNull(maxDelay, "maxDelay cannot be null");
+        Preconditions.checkArgument(maxBatchSize > 0, "maxBatchSize must be positive");
+        Preconditions.checkArgument(maxDelay.isPositive(), "maxDelay must be positive");
+
+        WriteBatcher writeBatcher = new WriteBatcher(mongoDatabase.getName(), collection,
+                this.collection(collection), this.logger, this.executor,
+                maxBatchSize, (keys, onInsert) -> this.defaultsOnInsert(collection, keys, onInsert));
+
+        WriteBatcher previous = this.writeBatchers.put(collection, writeBatcher);
+        if (previous != null)
+            previous.shutdown();
+
+        long delayMillis = maxDelay.toMillis();
+        writeBatcher.flushTask(Task.asyncRepeat(ignored -> this.executor.tryExecute(writeBatcher::flush), plugin,
+                delayMillis, delayMillis, TimeUnit.MILLISECONDS));
+
+        this.logger.info("Enabled write batching for database '{}', collection '{}' (max {} documents or {} ms).",
+                mongoDatabase.getName(), collection, maxBatchSize, delayMillis);
+    }
+
     // --- Synchronous Methods ---
 
 
@@ -116,6 +385,10 @@ public class AbstractDatabaseManager {
 
     /**
      * Retrieves a value from a document with a default fallback.
+     * <p>
+     * Only the requested key is fetched from the database, unless the
+     * collection is cached. Use {@link #getAll(String, String, Collection)}
+     * to read several keys at once.
      *
      * @param collection   collection name
      * @param id           document id
@@ -130,13 +403,82 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(id, "id cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        Document document = this.document(collection, id);
+        DocumentCache documentCache = this.documentCaches.get(collection);
+        if (documentCache != null) {
+            CachedDocument entry = documentCache.entry(id, documentId -> this.loadDocument(collection, documentId));
+            if (entry == null)
+                return defaultValue;
+
+            return entry.read(document -> this.getOrDefault(document, key, defaultValue));
+        }
+
+        if (key.isBlank())
+            return defaultValue;
+
+        Document document = this.loadDocument(collection, id, List.of(key));
         if (document == null)
             return defaultValue;
 
         return this.getOrDefault(document, key, defaultValue);
     }
 
+    /**
+     * Retrieves several values from a document in a single round trip.
+     * <p>
+     * Only the requested keys are fetched from the database. Keys that do
+     * not exist in the document are absent from the returned map.
+     *
+     * @param collection collection name
+     * @param id         document id
+     * @param keys       dot-separated key paths
+     * @return map of the found keys to their values, in the order of {@code keys};
+     * empty if the document does not exist
+     */
+    public Map<String, @Nullable Object> getAll(String collection, String id, Collection<String> keys) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+        Preconditions.checkNotNull(id, "id cannot be null");
+        Preconditions.checkNotNull(keys, "keys cannot be null");
+
+        DocumentCache documentCache = this.documentCaches.get(collection);
+        if (documentCache != null) {
+            CachedDocument entry = documentCache.entry(id, documentId -> this.loadDocument(collection, documentId));
+            if (entry == null)
+                return new LinkedHashMap<>();
+
+            return entry.read(document -> this.getAll(document, keys));
+        }
+
+        if (keys.stream().allMatch(String::isBlank))
+            return new LinkedHashMap<>();
+
+        Document document = this.loadDocument(collection, id, keys);
+        if (document == null)
+            return new LinkedHashMap<>();
+
+        return this.getAll(document, keys);
+    }
+
+    /**
+     * Retrieves several values from an already loaded document.
+     *
+     * @param document document to read
+     * @param keys     dot-separated key paths
+     * @return map of the found keys to their values, in the order of {@code keys}
+     */
+    public Map<String, @Nullable Object> getAll(Document document, Collection<String> keys) {
+        Preconditions.checkNotNull(document, "document cannot be null");
+        Preconditions.checkNotNull(keys, "keys cannot be null");
+
+        Map<String, @Nullable Object> values = new LinkedHashMap<>();
+        for (String key : keys) {
+            Object value = this.getOrDefault(document, key, MISSING);
+            if (value != MISSING)
+                values.put(key, value);
+        }
+
+        return values;
+    }
+
     /**
      * Retrieves a value from a document using a dot-separated key, with default.
      *
@@ -186,8 +528,9 @@ public class AbstractDatabaseManager {
     /**
      * Sets a value on a document identified by collection and id.
      * <p>
-     * Performs a read-modify-write cycle. If the document does not exist,
-     * the call is ignored and a warning is logged.
+     * The key is sent to the database as a single {@code $set} update, so only
+     * the changed field is written. If the document does not exist, the call
+     * is ignored and a warning is logged.
      *
      * @param collection collection name
      * @param id         document id
@@ -200,18 +543,12 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(id, "id cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        Document document = this.document(collection, id);
-        if (document == null) {
-            this.logger.warn("Attempted to set value for non-existent document: database='{}', collection='{}', id='{}'",
-                    mongoDatabase.getName(), collection, id);
-            return;
-        }
-
-        this.set(collection, id, document, key, value);
+        this.applyField(collection, id, key, FieldUpdate.set(value), false, null,
+                document -> setValueInDocument(document, key, value, collection, id));
     }
 
     /**
-     * Sets a value on a pre-loaded document and persists it.
+     * Sets a value on a pre-loaded document and persists the changed field.
      *
      * @param collection collection name
      * @param id         document id
@@ -229,38 +566,66 @@ public class AbstractDatabaseManager {
         if (!setValueInDocument(document, key, value, collection, id))
             return;
 
-        this.document(collection, id, document);
+        this.set(collection, id, key, value);
     }
 
     /**
-     * Removes a value at a given key path from a document and persists the change.
+     * Sets a value on a document, creating the document if it does not exist.
+     * <p>
+     * When the document is created, the fields of the default document
+     * registered with {@link #registerDefault(String, Supplier)} are inserted
+     * alongside the value in the same {@code updateOne}.
      *
      * @param collection collection name
      * @param id         document id
      * @param key        dot-separated key path
+     * @param value      value to set (may be {@code null})
+     * @param <T>        value type
      */
-    public void remove(String collection, String id, String key) {
+    public <T> void upsert(String collection, String id, String key, @Nullable T value) {
         Preconditions.checkNotNull(collection, "collection cannot be null");
         Preconditions.checkNotNull(id, "id cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        Document document = this.document(collection, id);
-        if (document == null) {
-            this.logger.warn("Attempted to remove value for non-existent document: database='{}', collection='{}', id='{}'",
-                    mongoDatabase.getName(), collection, id);
-            return;
-        }
+        this.applyField(collection, id, key, FieldUpdate.set(value), true, null,
+                document -> setValueInDocument(document, key, value, collection, id));
+    }
 
-        if (key.isBlank()) {
-            this.logger.warn("Attempted to remove value with blank key: database='{}', collection='{}', id='{}'",
-                    mongoDatabase.getName(), collection, id);
-            return;
-        }
+    /**
+     * Atomically increments a numeric value on a document with {@code $inc}.
+     * <p>
+     * A missing field is treated as {@code 0}. If the document does not
+     * exist, the call is ignored and a warning is logged.
+     *
+     * @param collection collection name
+     * @param id         document id
+     * @param key        dot-separated key path
+     * @param amount     amount to add (may be negative)
+     */
+    public void increment(String collection, String id, String key, Number amount) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+        Preconditions.checkNotNull(id, "id cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+        Preconditions.checkNotNull(amount, "amount cannot be null");
 
-        if (!removeValueInDocument(document, key, collection, id))
-            return;
+        this.applyField(collection, id, key, FieldUpdate.inc(amount), false, null,
+                document -> incrementValueInDocument(document, key, amount, collection, id));
+    }
 
-        this.document(collection, id, document);
+    /**
+     * Removes a value at a given key path from a document with a single {@code $unset}.
+     *
+     * @param collection collection name
+     * @param id         document id
+     * @param key        dot-separated key path
+     */
+    public void remove(String collection, String id, String key) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+        Preconditions.checkNotNull(id, "id cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+
+        this.applyField(collection, id, key, FieldUpdate.unset(), false, null,
+                document -> removeValueInDocument(document, key, collection, id));
     }
 
 
@@ -274,6 +639,11 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(collection, "collection cannot be null");
         Preconditions.checkNotNull(id, "id cannot be null");
 
+        DocumentCache documentCache = this.documentCaches.get(collection);
+        if (documentCache != null)
+            documentCache.discard(id);
+
+        this.flushPendingWrites(collection, id);
         MongoCollection<Document> mongoCollection = this.collection(collection);
         Bson filter = Filters.eq("_id", id);
         mongoCollection.deleteOne(filter);
@@ -294,7 +664,11 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(id, "id cannot be null");
         Preconditions.checkNotNull(document, "document cannot be null");
 
+        if (this.replaceCached(collection, id, document))
+            return;
+
         try {
+            this.flushPendingWrites(collection, id);
             MongoCollection<Document> mongoCollection = this.collection(collection);
             Bson filter = Filters.eq("_id", id);
             if (!document.containsKey("_id") || !document.get("_id").equals(id)) {
@@ -331,9 +705,13 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(collection, "collection cannot be null");
         Preconditions.checkNotNull(id, "id cannot be null");
 
-        MongoCollection<Document> mongoCollection = this.collection(collection);
-        Bson filter = Filters.eq("_id", id);
-        return mongoCollection.find(filter).first();
+        DocumentCache documentCache = this.documentCaches.get(collection);
+        if (documentCache != null) {
+            CachedDocument entry = documentCache.entry(id, documentId -> this.loadDocument(collection, documentId));
+            return entry == null ? null : entry.snapshot();
+        }
+
+        return this.loadDocument(collection, id);
     }
 
     /**
@@ -368,6 +746,7 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(collection, "collection cannot be null");
         Preconditions.checkNotNull(id, "id cannot be null");
 
+        this.flushPendingWrites(collection, id);
         MongoCollection<Document> mongoCollection = this.collection(collection);
         Supplier<Document> supplier = this.defaultDocuments.get(collection);
         if (supplier == null) {
@@ -383,6 +762,11 @@ public class AbstractDatabaseManager {
             consumer.accept(defaultDocument);
 
         mongoCollection.insertOne(defaultDocument);
+
+        DocumentCache documentCache = this.documentCaches.get(collection);
+        if (documentCache != null)
+            documentCache.put(id, defaultDocument);
+
         return defaultDocument;
     }
 
@@ -398,8 +782,13 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(collection, "collection cannot be null");
         Preconditions.checkNotNull(id, "id cannot be null");
 
+        DocumentCache documentCache = this.documentCaches.get(collection);
+        if (documentCache != null && documentCache.getIfPresent(id) != null)
+            return true;
+
+        this.flushPendingWrites(collection, id);
         MongoCollection<Document> mongoCollection = this.collection(collection);
-        return mongoCollection.find(Filters.eq("_id", id)).first() != null;
+        return mongoCollection.find(Filters.eq("_id", id)).projection(Projections.include("_id")).first() != null;
     }
 
     // --- Asynchronous Methods ---
@@ -456,12 +845,69 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(id, "id cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        return documentAsync(collection, id).thenApply(document -> {
-            if (document == null)
-                return defaultValue;
+        DocumentCache documentCache = this.documentCaches.get(collection);
+        if (documentCache != null) {
+            CachedDocument cached = documentCache.getIfPresent(id);
+            if (cached != null)
+                return CompletableFuture.completedFuture(cached.read(document -> this.getOrDefault(document, key, defaultValue)));
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        this.runAsync(future, () -> {
+            try {
+                future.complete(this.getOrDefault(collection, id, key, defaultValue));
+            } catch (MongoException e) {
+                this.logger.error("Failed to get value for key '{}' asynchronously: database='{}', collection='{}', id='{}'",
+                        key, mongoDatabase.getName(), collection, id, e);
+                future.complete(defaultValue);
+            } catch (Exception e) {
+                this.logger.error("Unexpected error during async get value: database='{}', collection='{}', id='{}'",
+                        mongoDatabase.getName(), collection, id, e);
+                future.completeExceptionally(e);
+            }
+        });
 
-            return this.getOrDefault(document, key, defaultValue);
+        return future;
+    }
+
+    /**
+     * Asynchronously retrieves several values from a document in a single round trip.
+     *
+     * @param collection collection name
+     * @param id         document id
+     * @param keys       dot-separated key paths
+     * @return future completed with the found keys and their values
+     * @see #getAll(String, String, Collection)
+     */
+    public CompletableFuture<Map<String, @Nullable Object>> getAllAsync(String collection, String id, Collection<String> keys) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+        Preconditions.checkNotNull(id, "id cannot be null");
+        Preconditions.checkNotNull(keys, "keys cannot be null");
+
+        DocumentCache documentCache = this.documentCaches.get(collection);
+        if (documentCache != null) {
+            CachedDocument cached = documentCache.getIfPresent(id);
+            if (cached != null)
+                return CompletableFuture.completedFuture(cached.read(document -> this.getAll(document, keys)));
+        }
+
+        List<String> keysCopy = List.copyOf(keys);
+        CompletableFuture<Map<String, @Nullable Object>> future = new CompletableFuture<>();
+        this.runAsync(future, () -> {
+            try {
+                future.complete(this.getAll(collection, id, keysCopy));
+            } catch (MongoException e) {
+                this.logger.error("Failed to get values asynchronously: database='{}', collection='{}', id='{}'",
+                        mongoDatabase.getName(), collection, id, e);
+                future.complete(new LinkedHashMap<>());
+            } catch (Exception e) {
+                this.logger.error("Unexpected error during async get values: database='{}', collection='{}', id='{}'",
+                        mongoDatabase.getName(), collection, id, e);
+                future.completeExceptionally(e);
+            }
         });
+
+        return future;
     }
 
     /**
@@ -480,18 +926,77 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(id, "id cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        return documentAsync(collection, id).thenCompose(document -> {
-            if (document == null) {
-                this.logger.warn("Attempted to set value for non-existent document (async): database='{}', collection='{}', id='{}'",
-                        mongoDatabase.getName(), collection, id);
-                return CompletableFuture.completedFuture(false);
-            }
+        return this.applyFieldAsync(collection, id, key, FieldUpdate.set(value), false, null,
+                document -> setValueInDocument(document, key, value, collection, id));
+    }
 
-            if (!setValueInDocument(document, key, value, collection, id))
-                return CompletableFuture.completedFuture(false);
+    /**
+     * Asynchronously sets a value on a document, creating the document from
+     * its registered default if it does not exist.
+     *
+     * @param collection collection name
+     * @param id         document id
+     * @param key        dot-separated key path
+     * @param value      value to set
+     * @param <T>        value type
+     * @return future completed with {@code true} on success, {@code false}
+     * if the key is invalid or the update failed
+     * @see #upsert(String, String, String, Object)
+     */
+    public <T> CompletableFuture<Boolean> upsertAsync(String collection, String id, String key, @Nullable T value) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+        Preconditions.checkNotNull(id, "id cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
 
-            return documentAsync(collection, id, document);
-        });
+        return this.upsertAsync(collection, id, key, value, null);
+    }
+
+    /**
+     * Asynchronously sets a value on a document, creating the document from
+     * its registered default if it does not exist.
+     * <p>
+     * {@code onInsert} can customize the default document, like the modifier
+     * of {@link #createDefaultDocumentAsync(String, String, Consumer)}. Its
+     * fields are only written if the document is created by this update.
+     *
+     * @param collection collection name
+     * @param id         document id
+     * @param key        dot-separated key path
+     * @param value      value to set
+     * @param onInsert   optional modifier for the default document
+     * @param <T>        value type
+     * @return future completed with {@code true} on success, {@code false}
+     * if the key is invalid or the update failed
+     */
+    public <T> CompletableFuture<Boolean> upsertAsync(String collection, String id, String key, @Nullable T value,
+                                                      @Nullable Consumer<Document> onInsert) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+        Preconditions.checkNotNull(id, "id cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+
+        return this.applyFieldAsync(collection, id, key, FieldUpdate.set(value), true, onInsert,
+                document -> setValueInDocument(document, key, value, collection, id));
+    }
+
+    /**
+     * Asynchronously increments a numeric value on a document with {@code $inc}.
+     *
+     * @param collection collection name
+     * @param id         document id
+     * @param key        dot-separated key path
+     * @param amount     amount to add (may be negative)
+     * @return future completed with {@code true} on success, {@code false}
+     * if the document does not exist or key is invalid
+     * @see #increment(String, String, String, Number)
+     */
+    public CompletableFuture<Boolean> incrementAsync(String collection, String id, String key, Number amount) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+        Preconditions.checkNotNull(id, "id cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+        Preconditions.checkNotNull(amount, "amount cannot be null");
+
+        return this.applyFieldAsync(collection, id, key, FieldUpdate.inc(amount), false, null,
+                document -> incrementValueInDocument(document, key, amount, collection, id));
     }
 
     /**
@@ -508,24 +1013,8 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(id, "id cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        return documentAsync(collection, id).thenCompose(document -> {
-            if (document == null) {
-                this.logger.warn("Attempted to remove value for non-existent document (async): database='{}', collection='{}', id='{}'",
-                        mongoDatabase.getName(), collection, id);
-                return CompletableFuture.completedFuture(false);
-            }
-
-            if (key.isBlank()) {
-                this.logger.warn("Attempted to remove value with blank key (async): database='{}', collection='{}', id='{}'",
-                        mongoDatabase.getName(), collection, id);
-                return CompletableFuture.completedFuture(false);
-            }
-
-            if (!removeValueInDocument(document, key, collection, id))
-                return CompletableFuture.completedFuture(false);
-
-            return documentAsync(collection, id, document);
-        });
+        return this.applyFieldAsync(collection, id, key, FieldUpdate.unset(), false, null,
+                document -> removeValueInDocument(document, key, collection, id));
     }
 
     /**
@@ -540,9 +1029,14 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(collection, "collection cannot be null");
         Preconditions.checkNotNull(id, "id cannot be null");
 
+        DocumentCache documentCache = this.documentCaches.get(collection);
+        if (documentCache != null)
+            documentCache.discard(id);
+
         CompletableFuture<Boolean> future = new CompletableFuture<>();
-        scheduler.runTaskAsynchronously(plugin, () -> {
+        this.runAsync(future, () -> {
             try {
+                this.flushPendingWrites(collection, id);
                 MongoCollection<Document> mongoCollection = this.collection(collection);
                 Bson filter = Filters.eq("_id", id);
                 mongoCollection.deleteOne(filter);
@@ -557,6 +1051,41 @@ public class AbstractDatabaseManager {
         return future;
     }
 
+    /**
+     * Asynchronously deletes every document matching a filter.
+     * <p>
+     * The batched writes pending for the collection are written first, so
+     * they cannot recreate a deleted document. Cached documents are not
+     * discarded, evict the ones matching the filter if the collection is cached.
+     *
+     * @param collection collection name
+     * @param filter     filter of the documents to delete
+     * @return future completed with the number of deleted documents,
+     * or exceptionally on Mongo errors
+     */
+    public CompletableFuture<Long> removeManyAsync(String collection, Bson filter) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+        Preconditions.checkNotNull(filter, "filter cannot be null");
+
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        this.runAsync(future, () -> {
+            try {
+                WriteBatcher writeBatcher = this.writeBatchers.get(collection);
+                if (writeBatcher != null)
+                    writeBatcher.flush();
+
+                MongoCollection<Document> mongoCollection = this.collection(collection);
+                future.complete(mongoCollection.deleteMany(filter).getDeletedCount());
+            } catch (MongoException e) {
+                this.logger.error("Failed to remove documents asynchronously: database='{}', collection='{}', filter='{}'",
+                        mongoDatabase.getName(), collection, filter, e);
+                future.completeExceptionally(e);
+            }
+        });
+
+        return future;
+    }
+
     /**
      * Asynchronously replaces the entire document in the collection.
      *
@@ -571,9 +1100,13 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(id, "id cannot be null");
         Preconditions.checkNotNull(document, "document cannot be null");
 
+        if (this.replaceCached(collection, id, document))
+            return CompletableFuture.completedFuture(true);
+
         CompletableFuture<Boolean> future = new CompletableFuture<>();
-        scheduler.runTaskAsynchronously(plugin, () -> {
+        this.runAsync(future, () -> {
             try {
+                this.flushPendingWrites(collection, id);
                 MongoCollection<Document> mongoCollection = this.collection(collection);
                 Bson filter = Filters.eq("_id", id);
                 if (!document.containsKey("_id") || !document.get("_id").equals(id)) {
@@ -620,12 +1153,17 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(collection, "collection cannot be null");
         Preconditions.checkNotNull(id, "id cannot be null");
 
+        DocumentCache documentCache = this.documentCaches.get(collection);
+        if (documentCache != null) {
+            CachedDocument cached = documentCache.getIfPresent(id);
+            if (cached != null)
+                return CompletableFuture.completedFuture(cached.snapshot());
+        }
+
         CompletableFuture<Document> future = new CompletableFuture<>();
-        scheduler.runTaskAsynchronously(plugin, () -> {
+        this.runAsync(future, () -> {
             try {
-                MongoCollection<Document> mongoCollection = this.collection(collection);
-                Bson filter = Filters.eq("_id", id);
-                Document result = mongoCollection.find(filter).first();
+                Document result = this.document(collection, id);
                 future.complete(result);
             } catch (MongoException e) {
                 this.logger.error("Failed to get document asynchronously: database='{}', collection='{}', id='{}'",
@@ -676,7 +1214,7 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(id, "id cannot be null");
 
         CompletableFuture<Document> future = new CompletableFuture<>();
-        scheduler.runTaskAsynchronously(plugin, () -> {
+        this.runAsync(future, () -> {
             try {
                 Document defaultDocument = generateDefaultDocumentStructure(collection, id, modifier);
                 insertDocumentAndCompleteFuture(future, defaultDocument, collection, id);
@@ -704,9 +1242,14 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(collection, "collection cannot be null");
         Preconditions.checkNotNull(id, "id cannot be null");
 
+        DocumentCache documentCache = this.documentCaches.get(collection);
+        if (documentCache != null && documentCache.getIfPresent(id) != null)
+            return CompletableFuture.completedFuture(true);
+
         CompletableFuture<Boolean> future = new CompletableFuture<>();
-        scheduler.runTaskAsynchronously(plugin, () -> {
+        this.runAsync(future, () -> {
             try {
+                this.flushPendingWrites(collection, id);
                 MongoCollection<Document> mongoCollection = this.collection(collection);
                 Bson filter = Filters.eq("_id", id);
                 boolean exists = mongoCollection.find(filter).projection(new Document("_id", 1)).first() != null;
@@ -741,8 +1284,369 @@ public class AbstractDatabaseManager {
         });
     }
 
+    /**
+     * Checks whether a collection exists in the database.
+     *
+     * @param collection collection name
+     * @return {@code true} if the collection exists
+     */
+    public boolean collectionExists(String collection) {
+        Preconditions.checkNotNull(collection, "collection cannot be null");
+
+        for (String name : this.mongoDatabase.listCollectionNames()) {
+            if (name.equals(collection))
+                return true;
+        }
+
+        return false;
+    }
+
     // --- Helper Methods ---
 
+    /**
+     * Loads a document directly from the database, bypassing the document cache.
+     *
+     * @param collection collection name
+     * @param id         document id
+     * @return document or {@code null} if it does not exist
+     */
+    @Nullable
+    private Document loadDocument(String collection, String id) {
+        this.flushPendingWrites(collection, id);
+        MongoCollection<Document> mongoCollection = this.collection(collection);
+        Bson filter = Filters.eq("_id", id);
+        return mongoCollection.find(filter).first();
+    }
+
+    /**
+     * Loads only the given keys of a document directly from the database,
+     * bypassing the document cache.
+     *
+     * @param collection collection name
+     * @param id         document id
+     * @param keys       dot-separated key paths to fetch
+     * @return document containing {@code _id} and the requested keys that exist,
+     * or {@code null} if the document does not exist
+     */
+    @Nullable
+    private Document loadDocument(String collection, String id, Collection<String> keys) {
+        this.flushPendingWrites(collection, id);
+        MongoCollection<Document> mongoCollection = this.collection(collection);
+        Bson filter = Filters.eq("_id", id);
+        return mongoCollection.find(filter).projection(projection(keys)).first();
+    }
+
+    /**
+     * Writes the batched updates still pending for a document before it is
+     * accessed without going through its {@link WriteBatcher}, so that reads
+     * see them and direct writes are applied after them.
+     *
+     * @param collection collection name
+     * @param id         document id
+     */
+    private void flushPendingWrites(String collection, String id) {
+        WriteBatcher writeBatcher = this.writeBatchers.get(collection);
+        if (writeBatcher != null)
+            writeBatcher.flush(id);
+    }
+
+    /**
+     * Builds an inclusion projection for the given keys.
+     * <p>
+     * Blank keys and keys nested in another requested key are skipped, as
+     * MongoDB rejects projections with colliding paths.
+     *
+     * @param keys dot-separated key paths
+     * @return projection
+     */
+    private static Bson projection(Collection<String> keys) {
+        Set<String> paths = new LinkedHashSet<>();
+        keys:
+        for (String key : keys) {
+            if (key.isBlank())
+                continue;
+
+            for (String other : keys) {
+                if (!other.isBlank() && key.startsWith(other + "."))
+                    continue keys;
+            }
+
+            paths.add(key);
+        }
+
+        return Projections.include(List.copyOf(paths));
+    }
+
+    /**
+     * Runs a task on the database executor, completing {@code future}
+     * exceptionally if the executor rejects it.
+     *
+     * @param future future completed by the task
+     * @param task   task to run
+     */
+    private void runAsync(CompletableFuture<?> future, Runnable task) {
+        try {
+            this.executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            this.logger.warn("Database executor rejected an operation for database '{}': {}",
+                    mongoDatabase.getName(), e.getMessage());
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Applies a single-field update to a document.
+     * <p>
+     * If the collection is cached, the update is applied to the cached
+     * document and written back later. Otherwise it is sent as one
+     * {@code updateOne}, which is atomic on the server and never overwrites
+     * concurrent changes to other fields.
+     *
+     * @param collection     collection name
+     * @param id             document id
+     * @param key            dot-separated key path
+     * @param update         update sent to the database
+     * @param upsert         whether to create the document if it does not exist
+     * @param onInsert       optional modifier for the default document used on upsert
+     * @param cachedMutation equivalent mutation applied to a cached document
+     * @return {@code true} if the update was applied
+     */
+    private boolean applyField(String collection, String id, String key, FieldUpdate update, boolean upsert,
+                               @Nullable Consumer<Document> onInsert, Predicate<Document> cachedMutation) {
+        String operation = operationName(update, upsert);
+        if (key.isBlank()) {
+            this.logger.warn("Attempted to {} value with blank key: database='{}', collection='{}', id='{}'",
+                    operation, mongoDatabase.getName(), collection, id);
+            return false;
+        }
+
+        DocumentCache documentCache = this.documentCaches.get(collection);
+        if (documentCache != null) {
+            CachedDocument entry = upsert ? documentCache.getIfPresent(id)
+                    : documentCache.entry(id, documentId -> this.loadDocument(collection, documentId));
+
+            if (entry != null)
+                return this.updateCached(documentCache, entry, key, cachedMutation);
+
+            if (!upsert) {
+                this.logger.warn("Attempted to {} value for non-existent document: database='{}', collection='{}', id='{}'",
+                        operation, mongoDatabase.getName(), collection, id);
+                return false;
+            }
+        }
+
+        return this.updateField(collection, id, key, update, upsert, onInsert);
+    }
+
+    /**
+     * Asynchronously applies a single-field update to a document.
+     * <p>
+     * Updates to documents that are already cached are applied immediately
+     * on the calling thread, as they never touch the database. Updates to
+     * collections with batching enabled are queued in their
+     * {@link WriteBatcher}.
+     *
+     * @param collection     collection name
+     * @param id             document id
+     * @param key            dot-separated key path
+     * @param update         update sent to the database
+     * @param upsert         whether to create the document if it does not exist
+     * @param onInsert       optional modifier for the default document used on upsert
+     * @param cachedMutation equivalent mutation applied to a cached document
+     * @return future completed with {@code true} if the update was applied
+     * @see #applyField(String, String, String, FieldUpdate, boolean, Consumer, Predicate)
+     */
+    private CompletableFuture<Boolean> applyFieldAsync(String collection, String id, String key, FieldUpdate update, boolean upsert,
+                                                       @Nullable Consumer<Document> onInsert, Predicate<Document> cachedMutation) {
+        if (!key.isBlank()) {
+            DocumentCache documentCache = this.documentCaches.get(collection);
+            if (documentCache != null) {
+                CachedDocument cached = documentCache.getIfPresent(id);
+                if (cached != null)
+                    return CompletableFuture.completedFuture(this.updateCached(documentCache, cached, key, cachedMutation));
+            } else {
+                WriteBatcher writeBatcher = this.writeBatchers.get(collection);
+                if (writeBatcher != null)
+                    return writeBatcher.enqueue(id, key, update, upsert, onInsert);
+            }
+        }
+
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        this.runAsync(future, () -> {
+            try {
+                future.complete(this.applyField(collection, id, key, update, upsert, onInsert, cachedMutation));
+            } catch (Exception e) {
+                this.logger.error("Unexpected error during async {}: database='{}', collection='{}', id='{}'",
+                        operationName(update, upsert), mongoDatabase.getName(), collection, id, e);
+                future.completeExceptionally(e);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Sends a single-field update to the database with {@code updateOne}.
+     *
+     * @param collection collection name
+     * @param id         document id
+     * @param key        dot-separated key path touched by the update
+     * @param update     update to send
+     * @param upsert     whether to create the document if it does not exist
+     * @param onInsert   optional modifier for the default document used on upsert
+     * @return {@code true} if a document was matched or created
+     */
+    private boolean updateField(String collection, String id, String key, FieldUpdate update, boolean upsert,
+                                @Nullable Consumer<Document> onInsert) {
+        String operation = operationName(update, upsert);
+        try {
+            this.flushPendingWrites(collection, id);
+            MongoCollection<Document> mongoCollection = this.collection(collection);
+            Bson filter = Filters.eq("_id", id);
+            Bson finalUpdate = update.toBson(key);
+            if (upsert) {
+                Document defaults = this.defaultsOnInsert(collection, List.of(key), onInsert);
+                if (!defaults.isEmpty())
+                    finalUpdate = Updates.combine(finalUpdate, new Document("$setOnInsert", defaults));
+            }
+
+            UpdateResult result = mongoCollection.updateOne(filter, finalUpdate, new UpdateOptions().upsert(upsert));
+            if (!result.wasAcknowledged()) {
+                this.logger.warn("UpdateOne operation was not acknowledged by the server for database='{}', collection='{}', id='{}'",
+                        mongoDatabase.getName(), collection, id);
+                return false;
+            }
+
+            if (result.getMatchedCount() == 0 && result.getUpsertedId() == null) {
+                this.logger.warn("Attempted to {} value for non-existent document: database='{}', collection='{}', id='{}'",
+                        operation, mongoDatabase.getName(), collection, id);
+                return false;
+            }
+
+            return true;
+        } catch (MongoException e) {
+            this.logger.error("Failed to {} value for key '{}': database='{}', collection='{}', id='{}'",
+                    operation, key, mongoDatabase.getName(), collection, id, e);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the name of an update, as used in log messages.
+     *
+     * @param update field update
+     * @param upsert whether the update is an upsert
+     * @return operation name
+     */
+    private static String operationName(FieldUpdate update, boolean upsert) {
+        return upsert && update.type() == FieldUpdate.Type.SET ? "upsert" : update.type().operationName();
+    }
+
+    /**
+     * Builds the {@code $setOnInsert} fields of an upsert from the registered
+     * default document, so the upsert creates a complete document.
+     * <p>
+     * Default fields overlapping the updated keys are skipped, as MongoDB
+     * rejects updates touching the same path twice.
+     *
+     * @param collection collection name
+     * @param keys       dot-separated key paths touched by the update
+     * @param onInsert   optional modifier for the default document
+     * @return dot-separated paths and values to set on insert, possibly empty
+     */
+    private Document defaultsOnInsert(String collection, Collection<String> keys, @Nullable Consumer<Document> onInsert) {
+        Supplier<Document> supplier = this.defaultDocuments.get(collection);
+        Document defaultDocument = supplier == null ? null : supplier.get();
+        if (defaultDocument == null) {
+            if (onInsert == null)
+                return new Document();
+
+            defaultDocument = new Document();
+        }
+
+        if (onInsert != null)
+            onInsert.accept(defaultDocument);
+
+        Document defaults = new Document();
+        this.collectDefaultsOnInsert(defaultDocument, "", keys, defaults);
+        return defaults;
+    }
+
+    /**
+     * Recursively collects the {@code $setOnInsert} fields of a default document.
+     *
+     * @param document default document (or nested part of it)
+     * @param prefix   dot-separated path of {@code document}, ending with a dot unless empty
+     * @param keys     dot-separated key paths touched by the update
+     * @param defaults document the fields are added to
+     */
+    private void collectDefaultsOnInsert(Document document, String prefix, Collection<String> keys, Document defaults) {
+        entries:
+        for (Map.Entry<String, Object> entry : document.entrySet()) {
+            String path = prefix + entry.getKey();
+            if (path.equals("_id"))
+                continue;
+
+            for (String key : keys) {
+                if (path.equals(key) || path.startsWith(key + "."))
+                    continue entries;
+
+                if (key.startsWith(path + ".")) {
+                    if (entry.getValue() instanceof Document nested)
+                        this.collectDefaultsOnInsert(nested, path + ".", keys, defaults);
+
+                    continue entries;
+                }
+            }
+
+            defaults.put(path, entry.getValue());
+        }
+    }
+
+    /**
+     * Applies a mutation to a cached document and marks the key dirty.
+     * <p>
+     * If the document got detached from the cache in the meantime, nothing
+     * would write it back anymore, so it is flushed right away.
+     *
+     * @param documentCache document cache of the collection
+     * @param entry         cached document
+     * @param key           dot-separated key path touched by the mutation
+     * @param mutation      mutation to apply
+     * @return {@code true} if the mutation succeeded
+     */
+    private boolean updateCached(DocumentCache documentCache, CachedDocument entry, String key, Predicate<Document> mutation) {
+        boolean updated = entry.update(mutation, key);
+        if (updated && entry.detached())
+            documentCache.flush(entry, true);
+
+        return updated;
+    }
+
+    /**
+     * Replaces a document in the document cache if the collection is cached and the document is loaded.
+     *
+     * @param collection collection name
+     * @param id         document id
+     * @param document   new document contents
+     * @return {@code true} if the replacement was handled by the cache
+     */
+    private boolean replaceCached(String collection, String id, Document document) {
+        DocumentCache documentCache = this.documentCaches.get(collection);
+        if (documentCache == null)
+            return false;
+
+        CachedDocument entry = documentCache.getIfPresent(id);
+        if (entry == null)
+            return false;
+
+        entry.replace(document);
+        if (entry.detached())
+            documentCache.flush(entry, true);
+
+        return true;
+    }
+
     /**
      * Sets a nested value in a document using a dot-separated key, creating
      * intermediate {@link Document}s as needed.
@@ -849,10 +1753,15 @@ public class AbstractDatabaseManager {
         Preconditions.checkNotNull(id, "id cannot be null");
 
         try {
+            this.flushPendingWrites(collection, id);
             MongoCollection<Document> mongoCollection = this.collection(collection);
             mongoCollection.insertOne(documentToInsert);
             this.logger.info("Created default document asynchronously: database='{}', collection='{}', id='{}'",
                     mongoDatabase.getName(), collection, id);
+
+            DocumentCache documentCache = this.documentCaches.get(collection);
+            if (documentCache != null)
+                documentCache.put(id, documentToInsert);
             future.complete(documentToInsert);
 
         } catch (MongoException e) {
@@ -904,6 +1813,33 @@ public class AbstractDatabaseManager {
                 });
     }
 
+    /**
+     * Increments a nested numeric value in a document using a dot-separated key,
+     * following the type widening rules of MongoDB's {@code $inc}.
+     *
+     * @param document   target document
+     * @param key        dot-separated key path
+     * @param amount     amount to add
+     * @param collection collection name (for logging)
+     * @param id         document id (for logging)
+     * @return {@code true} if the value was incremented, {@code false} if the
+     * current value is not a number or the structure is invalid
+     */
+    private boolean incrementValueInDocument(Document document, String key, Number amount, String collection, String id) {
+        Object current = this.getOrDefault(document, key, null);
+        if (current == null)
+            return setValueInDocument(document, key, amount, collection, id);
+
+        if (!(current instanceof Number number)) {
+            this.logger.error("Cannot increment value for key '{}' as it is not a number (type: {}): database='{}', collection='{}', id='{}'",
+                    key, current.getClass().getName(), mongoDatabase.getName(), collection, id);
+            return false;
+        }
+
+        Number result = FieldUpdate.add(number, amount);
+        return setValueInDocument(document, key, result, collection, id);
+    }
+
     /**
      * Removes a nested value from a document using a dot-separated key.
      *
@@ -0,0 +1,277 @@
+package toutouchien.niveriaapi.database;
+
+import com.google.common.base.Preconditions;
+import org.bson.Document;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A document held by a {@link DocumentCache}, together with the set of
+ * dot-notation paths that changed since it was last written back.
+ * <p>
+ * All access to the underlying {@link Document} goes through this class and
+ * is synchronized on the instance, so readers and writers from different
+ * threads never observe a half-applied mutation.
+ */
+@NullMarked
+final class CachedDocument {
+    private static final Object MISSING = new Object();
+
+    private final String id;
+    private final Document document;
+    private final Set<String> dirtyKeys;
+    private boolean replaced;
+    private boolean detached;
+
+    /**
+     * Creates a new cached document.
+     *
+     * @param id       document id ({@code _id})
+     * @param document document loaded from the database
+     */
+    CachedDocument(String id, Document document) {
+        Preconditions.checkNotNull(id, "id cannot be null");
+        Preconditions.checkNotNull(document, "document cannot be null");
+
+        this.id = id;
+        this.document = document;
+        this.dirtyKeys = new HashSet<>();
+    }
+
+    /**
+     * Gets the id of this document.
+     *
+     * @return document id
+     */
+    String id() {
+        return this.id;
+    }
+
+    /**
+     * Reads from the cached document while holding its lock.
+     *
+     * @param reader function reading from the document
+     * @param <T>    result type
+     * @return the value returned by {@code reader}
+     */
+    synchronized <T> T read(Function<Document, T> reader) {
+        Preconditions.checkNotNull(reader, "reader cannot be null");
+
+        return reader.apply(this.document);
+    }
+
+    /**
+     * Returns a deep copy of the cached document, safe to hand out to callers.
+     *
+     * @return copy of the document
+     */
+    synchronized Document snapshot() {
+        return (Document) copy(this.document);
+    }
+
+    /**
+     * Applies a mutation to the cached document and marks {@code key} dirty if it succeeded.
+     *
+     * @param mutation mutation to apply, returning {@code true} on success
+     * @param key      dot-separated key path touched by the mutation
+     * @return the result of {@code mutation}
+     */
+    synchronized boolean update(Predicate<Document> mutation, String key) {
+        Preconditions.checkNotNull(mutation, "mutation cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+
+        if (!mutation.test(this.document))
+            return false;
+
+        markDirty(key);
+        return true;
+    }
+
+    /**
+     * Replaces the whole cached document. The next flush will use a {@code replaceOne}.
+     *
+     * @param newDocument new document contents
+     */
+    synchronized void replace(Document newDocument) {
+        Preconditions.checkNotNull(newDocument, "newDocument cannot be null");
+
+        Document copy = (Document) copy(newDocument);
+        this.document.clear();
+        this.document.putAll(copy);
+        this.document.put("_id", this.id);
+
+        this.dirtyKeys.clear();
+        this.replaced = true;
+    }
+
+    /**
+     * Checks whether this document has changes that were not written back yet.
+     *
+     * @return {@code true} if dirty
+     */
+    synchronized boolean dirty() {
+        return this.replaced || !this.dirtyKeys.isEmpty();
+    }
+
+    /**
+     * Checks whether this document was removed from its cache. Writers that
+     * mutate a detached document are responsible for flushing it themselves.
+     *
+     * @return {@code true} if detached
+     */
+    synchronized boolean detached() {
+        return this.detached;
+    }
+
+    /**
+     * Marks this document as held by its cache again, after a failed write-back
+     * put it back.
+     */
+    synchronized void attach() {
+        this.detached = false;
+    }
+
+    /**
+     * Takes the pending changes of this document and resets its dirty state.
+     *
+     * @param detach whether to detach this document from its cache at the same time
+     * @return pending changes, or {@code null} if the document is clean
+     */
+    @Nullable
+    synchronized PendingWrite drain(boolean detach) {
+        if (detach)
+            this.detached = true;
+
+        if (!dirty())
+            return null;
+
+        PendingWrite pendingWrite;
+        if (this.replaced) {
+            pendingWrite = new PendingWrite(this.id, (Document) copy(this.document), null, null);
+        } else {
+            Document setValues = new Document();
+            Document unsetValues = new Document();
+            for (String key : this.dirtyKeys) {
+                Object value = resolve(key);
+                if (value == MISSING)
+                    unsetValues.put(key, "");
+                else
+                    setValues.put(key, copy(value));
+            }
+
+            pendingWrite = new PendingWrite(this.id, null, setValues, unsetValues);
+        }
+
+        this.dirtyKeys.clear();
+        this.replaced = false;
+        return pendingWrite;
+    }
+
+    /**
+     * Puts back the changes of a write that failed, so they are retried on the next flush.
+     *
+     * @param pendingWrite the write that failed
+     */
+    synchronized void restore(PendingWrite pendingWrite) {
+        Preconditions.checkNotNull(pendingWrite, "pendingWrite cannot be null");
+
+        if (pendingWrite.replacement() != null) {
+            this.dirtyKeys.clear();
+            this.replaced = true;
+            return;
+        }
+
+        if (pendingWrite.setValues() != null)
+            pendingWrite.setValues().keySet().forEach(this::markDirty);
+
+        if (pendingWrite.unsetValues() != null)
+            pendingWrite.unsetValues().keySet().forEach(this::markDirty);
+    }
+
+    /**
+     * Marks a key dirty, keeping the dirty set free of overlapping paths so the
+     * resulting {@code $set}/{@code $unset} never conflicts.
+     *
+     * @param key dot-separated key path
+     */
+    private void markDirty(String key) {
+        if (this.replaced)
+            return;
+
+        for (String dirtyKey : this.dirtyKeys) {
+            if (key.startsWith(dirtyKey + "."))
+                return; // An ancestor is already written as a whole
+        }
+
+        String prefix = key + ".";
+        this.dirtyKeys.removeIf(dirtyKey -> dirtyKey.startsWith(prefix));
+        this.dirtyKeys.add(key);
+    }
+
+    /**
+     * Resolves a dot-separated key in the cached document.
+     *
+     * @param key dot-separated key path
+     * @return the value (possibly {@code null}), or {@link #MISSING} if the path does not exist
+     */
+    @Nullable
+    private Object resolve(String key) {
+        String[] keyParts = key.split("\\.");
+        Object current = this.document;
+        for (String part : keyParts) {
+            if (!(current instanceof Document currentDocument) || !currentDocument.containsKey(part))
+                return MISSING;
+
+            current = currentDocument.get(part);
+        }
+
+        return current;
+    }
+
+    /**
+     * Deep copies documents and lists so the copy can be encoded outside the lock.
+     *
+     * @param value value to copy
+     * @return copied value, or the value itself if it is immutable or unknown
+     */
+    @Nullable
+    static Object copy(@Nullable Object value) {
+        if (value instanceof Document source) {
+            Document target = new Document();
+            for (Map.Entry<String, Object> entry : source.entrySet())
+                target.put(entry.getKey(), copy(entry.getValue()));
+
+            return target;
+        }
+
+        if (value instanceof List<?> source) {
+            List<Object> target = new ArrayList<>(source.size());
+            for (Object element : source)
+                target.add(copy(element));
+
+            return target;
+        }
+
+        return value;
+    }
+
+    /**
+     * Changes taken from a {@link CachedDocument} that still have to be written to the database.
+     *
+     * @param id          document id
+     * @param replacement full document to write with {@code replaceOne}, or {@code null}
+     * @param setValues   values for {@code $set}, or {@code null} when replacing
+     * @param unsetValues fields for {@code $unset}, or {@code null} when replacing
+     */
+    record PendingWrite(String id, @Nullable Document replacement, @Nullable Document setValues,
+                        @Nullable Document unsetValues) {
+    }
+}
@@ -0,0 +1,273 @@
+package toutouchien.niveriaapi.database;
+
+import com.google.common.base.Preconditions;
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded thread pool running the blocking MongoDB calls of a single
+ * {@link AbstractDatabaseManager}.
+ * <p>
+ * Keeping database work off Bukkit's shared async pool means a slow MongoDB
+ * cluster can only saturate this pool, never the async tasks of unrelated
+ * plugins. The pool has a bounded queue and a configurable
+ * {@link RejectionPolicy}, and records queue and execution latencies that
+ * can be read with {@link #metrics()}.
+ */
+@NullMarked
+public final class DatabaseExecutor implements Executor {
+    private final String name;
+    private final Logger logger;
+    private final ThreadPoolExecutor threadPool;
+    private final LongAdder submittedTasks;
+    private final LongAdder completedTasks;
+    private final LongAdder failedTasks;
+    private final LongAdder rejectedTasks;
+    private final LongAdder callerRunsTasks;
+    private final LongAdder totalQueueNanos;
+    private final LongAdder totalExecutionNanos;
+    private final AtomicLong maxQueueNanos;
+    private final AtomicLong maxExecutionNanos;
+
+    /**
+     * Creates a new database executor.
+     *
+     * @param name     name used for the worker threads and logging
+     * @param settings pool settings
+     * @param logger   logger used to report failing tasks
+     */
+    DatabaseExecutor(String name, Settings settings, Logger logger) {
+        Preconditions.checkNotNull(name, "name cannot be null");
+        Preconditions.checkNotNull(settings, "settings cannot be null");
+        Preconditions.checkNotNull(logger, "logger cannot be null");
+
+        this.name = name;
+        this.logger = logger;
+        this.submittedTasks = new LongAdder();
+        this.completedTasks = new LongAdder();
+        this.failedTasks = new LongAdder();
+        this.rejectedTasks = new LongAdder();
+        this.callerRunsTasks = new LongAdder();
+        this.totalQueueNanos = new LongAdder();
+        this.totalExecutionNanos = new LongAdder();
+        this.maxQueueNanos = new AtomicLong();
+        this.maxExecutionNanos = new AtomicLong();
+
+        this.threadPool = new ThreadPoolExecutor(
+                settings.threads(), settings.threads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(settings.queueCapacity()),
+                new WorkerThreadFactory(name),
+                rejectionHandler(settings.rejectionPolicy())
+        );
+        this.threadPool.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Runs a task on this executor.
+     *
+     * @param task task to run
+     * @throws RejectedExecutionException if the queue is full and the policy is
+     *                                    {@link RejectionPolicy#ABORT}, or the executor was shut down
+     */
+    @Override
+    public void execute(Runnable task) {
+        Preconditions.checkNotNull(task, "task cannot be null");
+
+        long submittedAt = System.nanoTime();
+        this.threadPool.execute(() -> this.run(task, submittedAt));
+        this.submittedTasks.increment();
+    }
+
+    /**
+     * Runs a task on this executor, returning {@code false} instead of throwing
+     * if it was rejected.
+     *
+     * @param task task to run
+     * @return {@code true} if the task was accepted
+     */
+    public boolean tryExecute(Runnable task) {
+        Preconditions.checkNotNull(task, "task cannot be null");
+
+        try {
+            this.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Takes a snapshot of the metrics of this executor.
+     *
+     * @return current metrics
+     */
+    public Metrics metrics() {
+        long completed = this.completedTasks.sum() + this.failedTasks.sum();
+        return new Metrics(
+                this.threadPool.getQueue().size(),
+                this.threadPool.getActiveCount(),
+                this.threadPool.getPoolSize(),
+                this.submittedTasks.sum(),
+                completed,
+                this.failedTasks.sum(),
+                this.rejectedTasks.sum(),
+                this.callerRunsTasks.sum(),
+                Duration.ofNanos(completed == 0 ? 0 : this.totalQueueNanos.sum() / completed),
+                Duration.ofNanos(this.maxQueueNanos.get()),
+                Duration.ofNanos(completed == 0 ? 0 : this.totalExecutionNanos.sum() / completed),
+                Duration.ofNanos(this.maxExecutionNanos.get())
+        );
+    }
+
+    /**
+     * Stops accepting tasks and waits for queued tasks to finish.
+     *
+     * @param timeout maximum time to wait
+     * @return {@code true} if every queued task finished in time
+     */
+    public boolean shutdown(Duration timeout) {
+        Preconditions.checkNotNull(timeout, "timeout cannot be null");
+
+        this.threadPool.shutdown();
+        try {
+            if (this.threadPool.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS))
+                return true;
+
+            this.logger.warn("Database executor '{}' did not finish {} queued tasks in time.",
+                    this.name, this.threadPool.getQueue().size());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether this executor was shut down.
+     *
+     * @return {@code true} if shut down
+     */
+    public boolean isShutdown() {
+        return this.threadPool.isShutdown();
+    }
+
+    private void run(Runnable task, long submittedAt) {
+        long startedAt = System.nanoTime();
+        long queueNanos = startedAt - submittedAt;
+        this.totalQueueNanos.add(queueNanos);
+        this.maxQueueNanos.accumulateAndGet(queueNanos, Math::max);
+
+        try {
+            task.run();
+            this.completedTasks.increment();
+        } catch (Throwable throwable) {
+            this.failedTasks.increment();
+            this.logger.error("Uncaught error in database executor '{}'", this.name, throwable);
+        } finally {
+            long executionNanos = System.nanoTime() - startedAt;
+            this.totalExecutionNanos.add(executionNanos);
+            this.maxExecutionNanos.accumulateAndGet(executionNanos, Math::max);
+        }
+    }
+
+    private RejectedExecutionHandler rejectionHandler(RejectionPolicy policy) {
+        return (task, executor) -> {
+            if (policy == RejectionPolicy.CALLER_RUNS && !executor.isShutdown()) {
+                this.callerRunsTasks.increment();
+                task.run();
+                return;
+            }
+
+            this.rejectedTasks.increment();
+            throw new RejectedExecutionException("Database executor '" + this.name + "' rejected a task ("
+                    + (executor.isShutdown() ? "shut down" : "queue full") + ")");
+        };
+    }
+
+    /**
+     * What to do with a task submitted while the queue is full.
+     */
+    public enum RejectionPolicy {
+        /**
+         * Rejects the task. Futures of rejected operations complete exceptionally
+         * with a {@link RejectedExecutionException}.
+         */
+        ABORT,
+        /**
+         * Runs the task on the submitting thread. This slows down producers but
+         * can block the main thread if it submits database work.
+         */
+        CALLER_RUNS
+    }
+
+    /**
+     * Settings of a {@link DatabaseExecutor}.
+     *
+     * @param threads         number of worker threads
+     * @param queueCapacity   maximum number of tasks waiting for a worker
+     * @param rejectionPolicy what to do when the queue is full
+     */
+    public record Settings(int threads, int queueCapacity, RejectionPolicy rejectionPolicy) {
+        /**
+         * Default settings: 4 threads, 10 000 queued tasks, {@link RejectionPolicy#ABORT}.
+         */
+        public static final Settings DEFAULT = new Settings(4, 10_000, RejectionPolicy.ABORT);
+
+        public Settings {
+            Preconditions.checkArgument(threads > 0, "threads must be positive");
+            Preconditions.checkArgument(queueCapacity > 0, "queueCapacity must be positive");
+            Preconditions.checkNotNull(rejectionPolicy, "rejectionPolicy cannot be null");
+        }
+    }
+
+    /**
+     * Snapshot of the metrics of a {@link DatabaseExecutor}.
+     *
+     * @param queueDepth           tasks waiting for a worker
+     * @param activeCount          tasks currently running
+     * @param poolSize             current number of worker threads
+     * @param submittedTasks       tasks accepted since creation, excluding rejected ones
+     * @param completedTasks       tasks finished since creation, including failed ones
+     * @param failedTasks          tasks that threw an uncaught exception
+     * @param rejectedTasks        tasks rejected because the queue was full or the executor shut down
+     * @param callerRunsTasks      tasks run on the submitting thread because the queue was full,
+     *                             with {@link RejectionPolicy#CALLER_RUNS}
+     * @param averageQueueLatency  average time a task waited for a worker
+     * @param maxQueueLatency      longest time a task waited for a worker
+     * @param averageExecutionTime average time a task ran
+     * @param maxExecutionTime     longest time a task ran
+     */
+    public record Metrics(int queueDepth, int activeCount, int poolSize, long submittedTasks, long completedTasks,
+                          long failedTasks, long rejectedTasks, long callerRunsTasks, Duration averageQueueLatency,
+                          Duration maxQueueLatency, Duration averageExecutionTime, Duration maxExecutionTime) {
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final String name;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        private WorkerThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "NiveriaAPI-Database-" + this.name + "-" + this.threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package toutouchien.niveriaapi.database;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.google.common.base.Preconditions;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Write-behind cache of the documents of a single collection.
+ * <p>
+ * Reads are served from memory once a document has been loaded, writes are
+ * applied in memory and only the changed paths are written back with a single
+ * {@code updateOne} per document, grouped into one {@code bulkWrite} when
+ * the whole cache is flushed. Documents that expire while
+ * dirty are written back before being dropped, while still mapped, so a
+ * concurrent read waits for the write-back instead of reloading a stale copy.
+ * <p>
+ * A document whose write-back fails after it left the cache is kept aside
+ * with its pending changes. It is put back in the cache the next time it is
+ * requested, and retried by {@link #flushAll()}.
+ */
+@NullMarked
+final class DocumentCache {
+    private final String databaseName;
+    private final String collectionName;
+    private final MongoCollection<Document> mongoCollection;
+    private final Logger logger;
+    private final Cache<String, CachedDocument> cache;
+    private final Map<String, CachedDocument> failedWrites;
+    @Nullable
+    private ScheduledTask flushTask;
+
+    /**
+     * Creates a new document cache.
+     *
+     * @param databaseName      database name (for logging)
+     * @param collectionName    collection name (for logging)
+     * @param mongoCollection   collection the documents are written back to
+     * @param logger            logger used to report write failures
+     * @param executor          executor running the cache maintenance, which writes back documents that expire
+     * @param expireAfterAccess how long an unused document stays in memory
+     * @param ticker            time source of the expiration
+     */
+    DocumentCache(String databaseName, String collectionName, MongoCollection<Document> mongoCollection,
+                  Logger logger, Executor executor, Duration expireAfterAccess, Ticker ticker) {
+        Preconditions.checkNotNull(databaseName, "databaseName cannot be null");
+        Preconditions.checkNotNull(collectionName, "collectionName cannot be null");
+        Preconditions.checkNotNull(mongoCollection, "mongoCollection cannot be null");
+        Preconditions.checkNotNull(logger, "logger cannot be null");
+        Preconditions.checkNotNull(executor, "executor cannot be null");
+        Preconditions.checkNotNull(expireAfterAccess, "expireAfterAccess cannot be null");
+        Preconditions.checkNotNull(ticker, "ticker cannot be null");
+
+        this.databaseName = databaseName;
+        this.collectionName = collectionName;
+        this.mongoCollection = mongoCollection;
+        this.logger = logger;
+        this.failedWrites = new ConcurrentHashMap<>();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterAccess(expireAfterAccess)
+                .executor(executor)
+                .ticker(ticker)
+                .evictionListener(this::onEviction)
+                .build();
+    }
+
+    /**
+     * Gets a cached document, loading it with {@code loader} if it is not cached yet.
+     *
+     * @param id     document id
+     * @param loader loads the document from the database, returning {@code null} if it does not exist
+     * @return cached document, or {@code null} if it does not exist
+     */
+    @Nullable
+    CachedDocument entry(String id, Function<String, @Nullable Document> loader) {
+        Preconditions.checkNotNull(id, "id cannot be null");
+        Preconditions.checkNotNull(loader, "loader cannot be null");
+
+        return this.cache.get(id, key -> {
+            CachedDocument failed = this.reattach(key);
+            if (failed != null)
+                return failed;
+
+            Document document = loader.apply(key);
+            return document == null ? null : new CachedDocument(key, document);
+        });
+    }
+
+    /**
+     * Gets a cached document without loading it.
+     *
+     * @param id document id
+     * @return cached document, or {@code null} if not cached
+     */
+    @Nullable
+    CachedDocument getIfPresent(String id) {
+        Preconditions.checkNotNull(id, "id cannot be null");
+
+        CachedDocument entry = this.cache.getIfPresent(id);
+        if (entry != null || !this.failedWrites.containsKey(id))
+            return entry;
+
+        return this.cache.asMap().computeIfAbsent(id, this::reattach);
+    }
+
+    /**
+     * Caches a document that is known to be in sync with the database.
+     *
+     * @param id       document id
+     * @param document document contents
+     */
+    void put(String id, Document document) {
+        Preconditions.checkNotNull(id, "id cannot be null");
+        Preconditions.checkNotNull(document, "document cannot be null");
+
+        this.failedWrites.remove(id);
+        CachedDocument previous = this.cache.asMap().put(id, new CachedDocument(id, (Document) CachedDocument.copy(document)));
+        if (previous != null)
+            previous.drain(true);
+    }
+
+    /**
+     * Removes a document from the cache without writing it back.
+     *
+     * @param id document id
+     */
+    void discard(String id) {
+        Preconditions.checkNotNull(id, "id cannot be null");
+
+        CachedDocument removed = this.cache.asMap().remove(id);
+        if (removed != null)
+            removed.drain(true);
+
+        CachedDocument failed = this.failedWrites.remove(id);
+        if (failed != null)
+            failed.drain(true);
+    }
+
+    /**
+     * Writes back the pending changes of a document and removes it from the cache.
+     * <p>
+     * The document stays mapped during the write-back, and stays cached if it fails.
+     *
+     * @param id document id
+     */
+    void evict(String id) {
+        Preconditions.checkNotNull(id, "id cannot be null");
+
+        this.cache.asMap().computeIfPresent(id, (key, entry) -> {
+            if (this.write(entry, true))
+                return null;
+
+            entry.attach();
+            return entry;
+        });
+    }
+
+    /**
+     * Writes back the pending changes of a document, if any.
+     * <p>
+     * If the write-back of a detached document fails, it is kept aside until
+     * it is requested again or {@link #flushAll()} succeeds.
+     *
+     * @param entry  cached document
+     * @param detach whether to detach the document from the cache
+     */
+    void flush(CachedDocument entry, boolean detach) {
+        Preconditions.checkNotNull(entry, "entry cannot be null");
+
+        if (!this.write(entry, detach) && entry.detached())
+            this.failedWrites.put(entry.id(), entry);
+    }
+
+    /**
+     * Writes back the pending changes of a document, restoring them if the write fails.
+     *
+     * @param entry  cached document
+     * @param detach whether to detach the document from the cache
+     * @return {@code false} if the write failed
+     */
+    private boolean write(CachedDocument entry, boolean detach) {
+        CachedDocument.PendingWrite pendingWrite = entry.drain(detach);
+        if (pendingWrite == null)
+            return true;
+
+        try {
+            Bson filter = Filters.eq("_id", pendingWrite.id());
+            if (pendingWrite.replacement() != null) {
+                this.mongoCollection.replaceOne(filter, pendingWrite.replacement());
+                return true;
+            }
+
+            this.mongoCollection.updateOne(filter, toUpdate(pendingWrite));
+            return true;
+        } catch (MongoException e) {
+            this.logger.error("Failed to write back cached document: database='{}', collection='{}', id='{}'",
+                    this.databaseName, this.collectionName, pendingWrite.id(), e);
+
+            entry.restore(pendingWrite);
+            return false;
+        }
+    }
+
+    /**
+     * Writes back the pending changes of every cached document, and retries
+     * the failed write-backs of documents that left the cache, with a single
+     * unordered {@code bulkWrite}.
+     */
+    void flushAll() {
+        List<CachedDocument> entries = new ArrayList<>();
+        List<CachedDocument.PendingWrite> pendingWrites = new ArrayList<>();
+        drain(this.cache.asMap().values(), entries, pendingWrites);
+        drain(this.failedWrites.values(), entries, pendingWrites);
+
+        if (!pendingWrites.isEmpty())
+            this.bulkWrite(entries, pendingWrites);
+
+        this.failedWrites.values().removeIf(entry -> !entry.dirty());
+    }
+
+    private static void drain(Iterable<CachedDocument> source, List<CachedDocument> entries,
+                              List<CachedDocument.PendingWrite> pendingWrites) {
+        for (CachedDocument entry : source) {
+            if (!entry.dirty())
+                continue;
+
+            CachedDocument.PendingWrite pendingWrite = entry.drain(false);
+            if (pendingWrite == null)
+                continue;
+
+            entries.add(entry);
+            pendingWrites.add(pendingWrite);
+        }
+    }
+
+    private void bulkWrite(List<CachedDocument> entries, List<CachedDocument.PendingWrite> pendingWrites) {
+        List<WriteModel<Document>> models = new ArrayList<>(pendingWrites.size());
+        for (CachedDocument.PendingWrite pendingWrite : pendingWrites)
+            models.add(toWriteModel(pendingWrite));
+
+        try {
+            this.mongoCollection.bulkWrite(models, new BulkWriteOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            this.logger.error("Failed to write back {}/{} cached documents: database='{}', collection='{}'",
+                    e.getWriteErrors().size(), models.size(), this.databaseName, this.collectionName, e);
+
+            for (BulkWriteError error : e.getWriteErrors())
+                entries.get(error.getIndex()).restore(pendingWrites.get(error.getIndex()));
+        } catch (MongoException e) {
+            this.logger.error("Failed to write back {} cached documents: database='{}', collection='{}'",
+                    models.size(), this.databaseName, this.collectionName, e);
+
+            for (int i = 0; i < entries.size(); i++)
+                entries.get(i).restore(pendingWrites.get(i));
+        }
+    }
+
+    /**
+     * Gets the number of documents currently cached.
+     *
+     * @return estimated number of cached documents
+     */
+    long size() {
+        return this.cache.estimatedSize();
+    }
+
+    /**
+     * Sets the repeating task that periodically flushes this cache.
+     *
+     * @param flushTask flush task
+     */
+    void flushTask(ScheduledTask flushTask) {
+        Preconditions.checkNotNull(flushTask, "flushTask cannot be null");
+
+        this.flushTask = flushTask;
+    }
+
+    /**
+     * Cancels the flush task and writes back every pending change.
+     */
+    void shutdown() {
+        if (this.flushTask != null && !this.flushTask.isCancelled())
+            this.flushTask.cancel();
+
+        flushAll();
+    }
+
+    private static WriteModel<Document> toWriteModel(CachedDocument.PendingWrite pendingWrite) {
+        Bson filter = Filters.eq("_id", pendingWrite.id());
+        if (pendingWrite.replacement() != null)
+            return new ReplaceOneModel<>(filter, pendingWrite.replacement());
+
+        return new UpdateOneModel<>(filter, toUpdate(pendingWrite));
+    }
+
+    private static Document toUpdate(CachedDocument.PendingWrite pendingWrite) {
+        Document update = new Document();
+        if (pendingWrite.setValues() != null && !pendingWrite.setValues().isEmpty())
+            update.put("$set", pendingWrite.setValues());
+
+        if (pendingWrite.unsetValues() != null && !pendingWrite.unsetValues().isEmpty())
+            update.put("$unset", pendingWrite.unsetValues());
+
+        return update;
+    }
+
+    /**
+     * Takes back a document whose write-back failed after it left the cache.
+     *
+     * @param id document id
+     * @return the document, or {@code null} if none is waiting for a retry
+     */
+    @Nullable
+    private CachedDocument reattach(String id) {
+        CachedDocument failed = this.failedWrites.remove(id);
+        if (failed != null)
+            failed.attach();
+
+        return failed;
+    }
+
+    private void onEviction(@Nullable String id, @Nullable CachedDocument entry, RemovalCause cause) {
+        if (entry != null)
+            flush(entry, true);
+    }
+}
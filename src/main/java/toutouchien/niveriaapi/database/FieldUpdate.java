@@ -0,0 +1,147 @@
+package toutouchien.niveriaapi.database;
+
+import com.google.common.base.Preconditions;
+import com.mongodb.client.model.Updates;
+import org.bson.conversions.Bson;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A single-field update operator, as sent to MongoDB in an {@code updateOne}.
+ *
+ * @param type  update operator
+ * @param value value to set or amount to increment, {@code null} for {@link Type#UNSET}
+ */
+@NullMarked
+record FieldUpdate(Type type, @Nullable Object value) {
+    /**
+     * Creates a {@code $set} update.
+     *
+     * @param value value to set
+     * @return field update
+     */
+    static FieldUpdate set(@Nullable Object value) {
+        return new FieldUpdate(Type.SET, value);
+    }
+
+    /**
+     * Creates an {@code $unset} update.
+     *
+     * @return field update
+     */
+    static FieldUpdate unset() {
+        return new FieldUpdate(Type.UNSET, null);
+    }
+
+    /**
+     * Creates an {@code $inc} update.
+     *
+     * @param amount amount to add
+     * @return field update
+     */
+    static FieldUpdate inc(Number amount) {
+        Preconditions.checkNotNull(amount, "amount cannot be null");
+
+        return new FieldUpdate(Type.INC, amount);
+    }
+
+    /**
+     * Converts this update to the Bson sent to the database.
+     *
+     * @param key dot-separated key path
+     * @return update Bson
+     */
+    Bson toBson(String key) {
+        Preconditions.checkNotNull(key, "key cannot be null");
+
+        return switch (this.type) {
+            case SET -> Updates.set(key, this.value);
+            case UNSET -> Updates.unset(key);
+            case INC -> Updates.inc(key, (Number) this.value);
+        };
+    }
+
+    /**
+     * Checks whether {@code next} can be folded into this update on the same key.
+     *
+     * @param next update applied after this one
+     * @return {@code true} if both updates can be expressed as a single one
+     */
+    boolean canMerge(FieldUpdate next) {
+        Preconditions.checkNotNull(next, "next cannot be null");
+
+        if (next.type != Type.INC)
+            return true;
+
+        return this.type != Type.SET || this.value instanceof Number;
+    }
+
+    /**
+     * Folds {@code next} into this update, as if both were applied in order.
+     *
+     * @param next update applied after this one
+     * @return merged update
+     * @throws IllegalArgumentException if the updates cannot be merged
+     */
+    FieldUpdate merge(FieldUpdate next) {
+        Preconditions.checkNotNull(next, "next cannot be null");
+        Preconditions.checkArgument(this.canMerge(next), "Cannot merge %s into %s", next, this);
+
+        if (next.type != Type.INC)
+            return next;
+
+        Number amount = (Number) next.value;
+        return switch (this.type) {
+            case SET -> set(add((Number) this.value, amount));
+            case UNSET -> set(amount);
+            case INC -> inc(add((Number) this.value, amount));
+        };
+    }
+
+    /**
+     * Adds two numbers following the type widening rules of MongoDB's {@code $inc}:
+     * any floating point operand gives a double, any long gives a long, and
+     * two ints give an int unless the result overflows.
+     *
+     * @param first  first operand
+     * @param second second operand
+     * @return sum
+     */
+    static Number add(Number first, Number second) {
+        Preconditions.checkNotNull(first, "first cannot be null");
+        Preconditions.checkNotNull(second, "second cannot be null");
+
+        if (first instanceof Double || first instanceof Float || second instanceof Double || second instanceof Float)
+            return first.doubleValue() + second.doubleValue();
+
+        long sum = first.longValue() + second.longValue();
+        if (first instanceof Long || second instanceof Long || sum != (int) sum)
+            return sum;
+
+        return (int) sum;
+    }
+
+    /**
+     * Update operators supported by {@link FieldUpdate}.
+     */
+    enum Type {
+        SET("set"),
+        UNSET("remove"),
+        INC("increment");
+
+        private final String operationName;
+
+        Type(String operationName) {
+            this.operationName = operationName;
+        }
+
+        /**
+         * Gets the name of this operation, as used in log messages.
+         *
+         * @return operation name
+         */
+        String operationName() {
+            return this.operationName;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Manager class for handling MongoDB connections and operations.
@@ -19,6 +20,7 @@ import java.util.Map;
 public class MongoManager {
     private final MongoClient mongoClient;
     private final List<MongoDatabase> databaseCache;
+    private final List<AbstractDatabaseManager> databaseManagers;
 
     /**
      * Constructs a MongoManager with the specified connection string.
@@ -30,6 +32,18 @@ public class MongoManager {
 
         this.mongoClient = MongoClients.create(connectionString);
         this.databaseCache = new ArrayList<>();
+        this.databaseManagers = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Registers a database manager so it is shut down before the client is closed.
+     *
+     * @param databaseManager The database manager to register.
+     */
+    public void register(AbstractDatabaseManager databaseManager) {
+        Preconditions.checkNotNull(databaseManager, "databaseManager cannot be null");
+
+        this.databaseManagers.add(databaseManager);
     }
 
     /**
@@ -65,9 +79,13 @@ public class MongoManager {
     }
 
     /**
-     * Shuts down the MongoDB client and releases resources.
+     * Shuts down every registered database manager, writing back their
+     * pending changes, then shuts down the MongoDB client and releases resources.
      */
     public void shutdown() {
+        this.databaseManagers.forEach(AbstractDatabaseManager::shutdown);
+        this.databaseManagers.clear();
+
         this.mongoClient.close();
     }
 }
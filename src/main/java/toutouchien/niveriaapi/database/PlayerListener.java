@@ -5,11 +5,12 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.jspecify.annotations.NullMarked;
 import toutouchien.niveriaapi.database.impl.NiveriaDatabaseManager;
 
 /**
- * Listener for player pre-login events to manage player data in the database.
+ * Listener for player pre-login and quit events to manage player data in the database.
  */
 @NullMarked
 public class PlayerListener implements Listener {
@@ -33,15 +34,18 @@ public class PlayerListener implements Listener {
         String uuid = event.getUniqueId().toString();
         long currentTimeMillis = System.currentTimeMillis();
 
-        this.niveriaDatabase.documentAsync("players", uuid).thenComposeAsync(document -> {
-            if (document != null)
-                return this.niveriaDatabase.setAsync("players", uuid, "lastJoin", currentTimeMillis);
+        String ip = event.getAddress().getHostAddress();
 
-            return this.niveriaDatabase.createDefaultDocumentAsync("players", uuid, newDocument -> {
-                newDocument.put("ip", event.getAddress().getHostAddress());
-                newDocument.put("firstJoin", currentTimeMillis);
-                newDocument.put("lastJoin", currentTimeMillis);
-            }).thenApply(createdDocument -> null);
+        // Single upsert: updates lastJoin, and only fills ip/firstJoin when the document is created
+        this.niveriaDatabase.upsertAsync("players", uuid, "lastJoin", currentTimeMillis, newDocument -> {
+            newDocument.put("ip", ip);
+            newDocument.put("firstJoin", currentTimeMillis);
         });
     }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        String uuid = event.getPlayer().getUniqueId().toString();
+        this.niveriaDatabase.evictAsync("players", uuid);
+    }
 }
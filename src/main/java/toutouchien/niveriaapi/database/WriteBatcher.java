@@ -0,0 +1,394 @@
+package toutouchien.niveriaapi.database;
+
+import com.google.common.base.Preconditions;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bson.Document;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Buffers single-field updates of a collection and writes them as one
+ * unordered {@code bulkWrite}.
+ * <p>
+ * Updates to the same document are merged into a single {@code updateOne},
+ * and repeated updates to the same field are coalesced so only the last
+ * value (or the summed increment) is sent. A batch is written once it holds
+ * {@code maxBatchSize} documents or when the periodic flush task runs,
+ * whichever happens first. Every caller still gets its own future.
+ * <p>
+ * Updates that cannot be merged with a pending update of the same document
+ * (for example a parent and a child path, or an upsert and a plain update)
+ * start a new batch. Batches are always written one after the other, so the
+ * order of updates to a document is preserved.
+ * <p>
+ * Futures of updates that are not upserts complete with {@code false} if the
+ * document did not exist, like a single {@code updateOne}.
+ */
+@NullMarked
+final class WriteBatcher {
+    private final String databaseName;
+    private final String collectionName;
+    private final MongoCollection<Document> mongoCollection;
+    private final Logger logger;
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final BiFunction<Collection<String>, @Nullable Consumer<Document>, Document> defaultsOnInsert;
+    private final Deque<Map<String, PendingUpdate>> batches;
+    private final AtomicBoolean flushScheduled;
+    private final Object flushLock;
+    @Nullable
+    private ScheduledTask flushTask;
+
+    /**
+     * Creates a new write batcher.
+     *
+     * @param databaseName     database name (for logging)
+     * @param collectionName   collection name (for logging)
+     * @param mongoCollection  collection the updates are written to
+     * @param logger           logger used to report write failures
+     * @param executor         executor running flushes triggered by a full batch
+     * @param maxBatchSize     number of documents after which a batch is written
+     * @param defaultsOnInsert builds the {@code $setOnInsert} fields for upserts from the
+     *                         touched keys and an optional modifier of the default document
+     */
+    WriteBatcher(String databaseName, String collectionName, MongoCollection<Document> mongoCollection,
+                 Logger logger, Executor executor, int maxBatchSize,
+                 BiFunction<Collection<String>, @Nullable Consumer<Document>, Document> defaultsOnInsert) {
+        Preconditions.checkNotNull(databaseName, "databaseName cannot be null");
+        Preconditions.checkNotNull(collectionName, "collectionName cannot be null");
+        Preconditions.checkNotNull(mongoCollection, "mongoCollection cannot be null");
+        Preconditions.checkNotNull(logger, "logger cannot be null");
+        Preconditions.checkNotNull(executor, "executor cannot be null");
+        Preconditions.checkNotNull(defaultsOnInsert, "defaultsOnInsert cannot be null");
+        Preconditions.checkArgument(maxBatchSize > 0, "maxBatchSize must be positive");
+
+        this.databaseName = databaseName;
+        this.collectionName = collectionName;
+        this.mongoCollection = mongoCollection;
+        this.logger = logger;
+        this.executor = executor;
+        this.maxBatchSize = maxBatchSize;
+        this.defaultsOnInsert = defaultsOnInsert;
+        this.batches = new ArrayDeque<>();
+        this.flushScheduled = new AtomicBoolean();
+        this.flushLock = new Object();
+    }
+
+    /**
+     * Queues a single-field update.
+     *
+     * @param id       document id
+     * @param key      dot-separated key path
+     * @param update   update to apply
+     * @param upsert   whether to create the document if it does not exist
+     * @param onInsert optional modifier of the default document used when the document is created
+     * @return future completed with {@code true} once the batch containing the update was written
+     */
+    CompletableFuture<Boolean> enqueue(String id, String key, FieldUpdate update, boolean upsert,
+                                       @Nullable Consumer<Document> onInsert) {
+        Preconditions.checkNotNull(id, "id cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+        Preconditions.checkNotNull(update, "update cannot be null");
+
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        boolean full;
+        synchronized (this) {
+            Map<String, PendingUpdate> batch = this.batches.peekLast();
+            if (batch == null || batch.size() >= this.maxBatchSize)
+                batch = this.newBatch();
+
+            PendingUpdate pendingUpdate = batch.get(id);
+            if (pendingUpdate != null && !pendingUpdate.canMerge(key, update, upsert)) {
+                batch = this.newBatch();
+                pendingUpdate = null;
+            }
+
+            if (pendingUpdate == null) {
+                pendingUpdate = new PendingUpdate(id, upsert);
+                batch.put(id, pendingUpdate);
+            }
+
+            pendingUpdate.merge(key, update, onInsert, future);
+            full = this.batches.size() > 1 || batch.size() >= this.maxBatchSize;
+        }
+
+        if (full && this.flushScheduled.compareAndSet(false, true)) {
+            try {
+                this.executor.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // The periodic flush (or the final one on shutdown) will write the batch instead
+                this.flushScheduled.set(false);
+            }
+        }
+
+        return future;
+    }
+
+    /**
+     * Writes every pending batch, in order. This call blocks on the database.
+     */
+    void flush() {
+        this.flushScheduled.set(false);
+
+        synchronized (this.flushLock) {
+            while (true) {
+                Map<String, PendingUpdate> batch;
+                synchronized (this) {
+                    batch = this.batches.pollFirst();
+                }
+
+                if (batch == null)
+                    return;
+
+                if (!batch.isEmpty())
+                    this.write(new ArrayList<>(batch.values()));
+            }
+        }
+    }
+
+    /**
+     * Writes every pending batch if one of them holds an update of the given
+     * document, and waits for a batch being written by another thread.
+     * <p>
+     * Operations that access a document without going through this batcher
+     * call this method first, so they observe and follow the updates queued
+     * before them. This call blocks on the database.
+     *
+     * @param id document id
+     */
+    void flush(String id) {
+        Preconditions.checkNotNull(id, "id cannot be null");
+
+        // Taking the flush lock first waits for a batch already polled by another flush
+        synchronized (this.flushLock) {
+            if (this.hasPending(id))
+                this.flush();
+        }
+    }
+
+    /**
+     * Checks whether an update of a document is waiting to be written.
+     *
+     * @param id document id
+     * @return {@code true} if a pending batch holds an update of the document
+     */
+    synchronized boolean hasPending(String id) {
+        for (Map<String, PendingUpdate> batch : this.batches) {
+            if (batch.containsKey(id))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Sets the repeating task that periodically flushes this batcher.
+     *
+     * @param flushTask flush task
+     */
+    void flushTask(ScheduledTask flushTask) {
+        Preconditions.checkNotNull(flushTask, "flushTask cannot be null");
+
+        this.flushTask = flushTask;
+    }
+
+    /**
+     * Cancels the flush task and writes every pending batch.
+     */
+    void shutdown() {
+        if (this.flushTask != null && !this.flushTask.isCancelled())
+            this.flushTask.cancel();
+
+        this.flush();
+    }
+
+    private Map<String, PendingUpdate> newBatch() {
+        Map<String, PendingUpdate> batch = new LinkedHashMap<>();
+        this.batches.addLast(batch);
+        return batch;
+    }
+
+    private void write(List<PendingUpdate> updates) {
+        List<WriteModel<Document>> models = new ArrayList<>(updates.size());
+        for (PendingUpdate pendingUpdate : updates) {
+            models.add(new UpdateOneModel<>(
+                    Filters.eq("_id", pendingUpdate.id),
+                    pendingUpdate.toUpdate(this.defaultsOnInsert),
+                    new UpdateOptions().upsert(pendingUpdate.upsert)
+            ));
+        }
+
+        try {
+            BulkWriteResult result = this.mongoCollection.bulkWrite(models, new BulkWriteOptions().ordered(false));
+            if (!result.wasAcknowledged()) {
+                this.logger.warn("BulkWrite operation was not acknowledged by the server for database='{}', collection='{}' ({} documents)",
+                        this.databaseName, this.collectionName, models.size());
+                updates.forEach(pendingUpdate -> pendingUpdate.complete(false));
+                return;
+            }
+
+            // Every update matched or created its document, no need to look for missing ones
+            if (result.getMatchedCount() + result.getUpserts().size() >= models.size()) {
+                updates.forEach(pendingUpdate -> pendingUpdate.complete(true));
+                return;
+            }
+
+            Set<Object> existingIds = this.existingIds(updates);
+            for (PendingUpdate pendingUpdate : updates) {
+                boolean applied = pendingUpdate.upsert || existingIds.contains(pendingUpdate.id);
+                if (!applied) {
+                    this.logger.warn("Batched update did not find document: database='{}', collection='{}', id='{}'",
+                            this.databaseName, this.collectionName, pendingUpdate.id);
+                }
+
+                pendingUpdate.complete(applied);
+            }
+        } catch (MongoBulkWriteException e) {
+            Set<Integer> failedIndexes = new HashSet<>();
+            for (BulkWriteError error : e.getWriteErrors())
+                failedIndexes.add(error.getIndex());
+
+            this.logger.error("BulkWrite operation failed for {}/{} documents: database='{}', collection='{}'",
+                    failedIndexes.size(), models.size(), this.databaseName, this.collectionName, e);
+
+            for (int i = 0; i < updates.size(); i++)
+                updates.get(i).complete(!failedIndexes.contains(i));
+        } catch (MongoException e) {
+            this.logger.error("Failed to write batch of {} documents: database='{}', collection='{}'",
+                    models.size(), this.databaseName, this.collectionName, e);
+
+            updates.forEach(pendingUpdate -> pendingUpdate.complete(false));
+        } catch (Exception e) {
+            this.logger.error("Unexpected error while writing batch: database='{}', collection='{}'",
+                    this.databaseName, this.collectionName, e);
+
+            updates.forEach(pendingUpdate -> pendingUpdate.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Finds which documents targeted by plain updates exist, after a batch
+     * reported fewer matches than updates.
+     *
+     * @param updates updates of the written batch
+     * @return ids of the existing documents
+     */
+    private Set<Object> existingIds(List<PendingUpdate> updates) {
+        List<String> ids = new ArrayList<>(updates.size());
+        for (PendingUpdate pendingUpdate : updates) {
+            if (!pendingUpdate.upsert)
+                ids.add(pendingUpdate.id);
+        }
+
+        Set<Object> existingIds = new HashSet<>();
+        this.mongoCollection.find(Filters.in("_id", ids))
+                .projection(Projections.include("_id"))
+                .forEach(document -> existingIds.add(document.get("_id")));
+        return existingIds;
+    }
+
+    /**
+     * All pending updates of a single document within a batch.
+     */
+    private static final class PendingUpdate {
+        private final String id;
+        private final Map<String, FieldUpdate> fields;
+        private final List<CompletableFuture<Boolean>> futures;
+        private final boolean upsert;
+        @Nullable
+        private Consumer<Document> onInsert;
+
+        private PendingUpdate(String id, boolean upsert) {
+            this.id = id;
+            this.upsert = upsert;
+            this.fields = new LinkedHashMap<>();
+            this.futures = new ArrayList<>();
+        }
+
+        private boolean canMerge(String key, FieldUpdate update, boolean upsert) {
+            // Merging would turn plain updates into upserts, or upserts into plain updates
+            if (this.upsert != upsert)
+                return false;
+
+            for (Map.Entry<String, FieldUpdate> entry : this.fields.entrySet()) {
+                String path = entry.getKey();
+                if (path.equals(key))
+                    return entry.getValue().canMerge(update);
+
+                if (path.startsWith(key + ".") || key.startsWith(path + "."))
+                    return false;
+            }
+
+            return true;
+        }
+
+        private void merge(String key, FieldUpdate update, @Nullable Consumer<Document> onInsert,
+                           CompletableFuture<Boolean> future) {
+            this.fields.merge(key, update, FieldUpdate::merge);
+            this.futures.add(future);
+
+            if (onInsert != null)
+                this.onInsert = this.onInsert == null ? onInsert : this.onInsert.andThen(onInsert);
+        }
+
+        private Document toUpdate(BiFunction<Collection<String>, @Nullable Consumer<Document>, Document> defaultsOnInsert) {
+            Document update = new Document();
+            for (Map.Entry<String, FieldUpdate> entry : this.fields.entrySet()) {
+                FieldUpdate fieldUpdate = entry.getValue();
+                String operator = switch (fieldUpdate.type()) {
+                    case SET -> "$set";
+                    case UNSET -> "$unset";
+                    case INC -> "$inc";
+                };
+
+                Object value = fieldUpdate.type() == FieldUpdate.Type.UNSET ? "" : fieldUpdate.value();
+                update.computeIfAbsent(operator, ignored -> new Document());
+                update.get(operator, Document.class).put(entry.getKey(), value);
+            }
+
+            if (this.upsert) {
+                Document defaults = defaultsOnInsert.apply(this.fields.keySet(), this.onInsert);
+                if (!defaults.isEmpty())
+                    update.put("$setOnInsert", defaults);
+            }
+
+            return update;
+        }
+
+        private void complete(boolean success) {
+            this.futures.forEach(future -> future.complete(success));
+        }
+
+        private void completeExceptionally(Throwable throwable) {
+            this.futures.forEach(future -> future.completeExceptionally(throwable));
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.bukkit.plugin.Plugin;
 import org.jspecify.annotations.NullMarked;
 import toutouchien.niveriaapi.NiveriaAPI;
 import toutouchien.niveriaapi.database.AbstractDatabaseManager;
+import toutouchien.niveriaapi.database.DatabaseExecutor;
 
 /**
  * Manages database operations for a specific plugin using MongoDB.
@@ -16,6 +17,18 @@ public class DatabaseManager extends AbstractDatabaseManager {
      * @param plugin The plugin instance for which the database manager is created.
      */
     public DatabaseManager(Plugin plugin) {
-        super(plugin, NiveriaAPI.instance().mongoManager().database(plugin.getName()));
+        this(plugin, DatabaseExecutor.Settings.DEFAULT);
+    }
+
+    /**
+     * Constructs a new DatabaseManager for the given plugin.
+     *
+     * @param plugin           The plugin instance for which the database manager is created.
+     * @param executorSettings The settings of the executor running asynchronous operations.
+     */
+    public DatabaseManager(Plugin plugin, DatabaseExecutor.Settings executorSettings) {
+        super(plugin, NiveriaAPI.instance().mongoManager().database(plugin.getName()), executorSettings);
+
+        NiveriaAPI.instance().mongoManager().register(this);
     }
 }
@@ -4,12 +4,15 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jspecify.annotations.NullMarked;
 import toutouchien.niveriaapi.NiveriaAPI;
 import toutouchien.niveriaapi.database.AbstractDatabaseManager;
+import toutouchien.niveriaapi.database.DatabaseExecutor;
 
 @ApiStatus.Internal
 @NullMarked
 public class NiveriaDatabaseManager extends AbstractDatabaseManager {
     @ApiStatus.Internal
-    public NiveriaDatabaseManager(NiveriaAPI plugin) {
-        super(plugin, plugin.mongoManager().database("Niveria"));
+    public NiveriaDatabaseManager(NiveriaAPI plugin, DatabaseExecutor.Settings executorSettings) {
+        super(plugin, plugin.mongoManager().database("Niveria"), executorSettings);
+
+        plugin.mongoManager().register(this);
     }
 }
@@ -6,6 +6,7 @@ import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.objects.*;
 import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.text.Component;
@@ -19,16 +20,26 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.IllegalPluginAccessException;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.Contract;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
+import toutouchien.niveriaapi.utils.Task;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -39,7 +50,9 @@ import java.util.function.Supplier;
  *     <li><b>Instance-based:</b> Each plugin has its own Lang instance</li>
  *     <li><b>Caffeine cache:</b> High-performance, auto-evicting component cache</li>
  *     <li><b>MiniMessage placeholders:</b> Named placeholders instead of positional arguments</li>
- *     <li><b>Lazy loading:</b> Locales loaded on-demand</li>
+ *     <li><b>Precompiled templates:</b> Messages with placeholders are parsed once, then only filled in</li>
+ *     <li><b>Background loading:</b> Locales preloaded at startup and loaded asynchronously on-demand</li>
+ *     <li><b>File watching:</b> Optional hot swap of edited language files, invalidating only the changed keys</li>
  *     <li><b>Flexible configuration:</b> Builder pattern with sensible defaults</li>
  *     <li><b>Custom tag resolvers:</b> Extensible tag system per plugin</li>
  *     <li><b>Better error handling:</b> Graceful degradation with detailed logging</li>
@@ -80,15 +93,23 @@ public class Lang {
     private final MissingKeyBehavior missingKeyBehavior;
     private final ObjectSet<String> defaultLanguageFiles;
     private final String langDirectory;
+    private final boolean preloadLocales;
+    private final boolean asyncLocaleLoading;
+    private final boolean compiledCache;
 
-    private final Object2ObjectMap<Locale, Object2ObjectMap<String, String>> messages;
-    private final Object2ObjectMap<Locale, Object2ObjectMap<String, Object2ObjectMap<String, String>>> specialTags;
     @Nullable private final Object componentCache;
-    private final ObjectSet<Locale> loadedLocales;
+    @Nullable private final Object placeholderCache;
+    private final Map<LangCacheKey, LangTemplate> templates;
+    private final Map<Locale, LocaleTagResolvers> localeTagResolvers;
+    private final Set<Locale> loadingLocales;
+    @Nullable private final LangFileWatcher fileWatcher;
+    @Nullable private final LangMetrics metrics;
     private final Object2ObjectMap<String, TagResolver> customTagResolvers;
 
-    private Locale defaultLocale = Locale.US;
-    private boolean usePlayerLocale = false;
+    private final Object loadLock = new Object();
+    private volatile LangSnapshot snapshot = LangSnapshot.EMPTY;
+    private volatile Locale defaultLocale = Locale.US;
+    private volatile boolean usePlayerLocale = false;
 
     /**
      * Private constructor - use {@link LangBuilder} instead.
@@ -102,25 +123,34 @@ public class Lang {
         this.missingKeyBehavior = builder.missingKeyBehavior;
         this.defaultLanguageFiles = new ObjectOpenHashSet<>(builder.defaultLanguageFiles);
         this.langDirectory = builder.langDirectory;
-
-        this.messages = Object2ObjectMaps.synchronize(new Object2ObjectOpenHashMap<>());
-        this.specialTags = Object2ObjectMaps.synchronize(new Object2ObjectOpenHashMap<>());
-        this.componentCache = this.cacheComponents ? buildCaffeineCache(builder) : null;
-        this.loadedLocales = ObjectSets.synchronize(new ObjectOpenHashSet<>());
+        this.preloadLocales = builder.preloadLocales;
+        this.asyncLocaleLoading = builder.asyncLocaleLoading;
+        this.compiledCache = builder.compiledCache;
+
+        this.componentCache = this.cacheComponents ? buildCaffeineCache(builder, builder.maxCacheSize) : null;
+        this.placeholderCache = builder.cachePlaceholderMessages
+                ? buildCaffeineCache(builder, builder.maxPlaceholderCacheSize)
+                : null;
+        this.templates = new ConcurrentHashMap<>();
+        this.localeTagResolvers = new ConcurrentHashMap<>();
+        this.loadingLocales = ConcurrentHashMap.newKeySet();
         this.customTagResolvers = new Object2ObjectOpenHashMap<>(builder.customTagResolvers);
+        this.metrics = builder.collectMetrics ? new LangMetrics() : null;
 
         this.initialize();
+        this.fileWatcher = builder.watchFiles ? startFileWatcher() : null;
     }
 
     /**
      * Builds a Caffeine cache with the specified configuration.
      *
-     * @param builder The builder containing cache configuration
+     * @param builder     The builder containing cache configuration
+     * @param maximumSize The maximum number of cached components
      * @return Configured Caffeine cache
      */
-    private static Cache<LangCacheKey, Component> buildCaffeineCache(LangBuilder builder) {
+    private static Cache<LangCacheKey, Component> buildCaffeineCache(LangBuilder builder, int maximumSize) {
         Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder()
-                .maximumSize(builder.maxCacheSize);
+                .maximumSize(maximumSize);
 
         if (builder.cacheExpireAfterAccess != null)
             cacheBuilder.expireAfterAccess(builder.cacheExpireAfterAccess);
@@ -149,6 +179,10 @@ public class Lang {
 
     /**
      * Creates a parsed placeholder (value will be parsed for MiniMessage tags).
+     * <p>
+     * Messages using parsed placeholders are parsed again on every call unless
+     * placeholder message caching is enabled; prefer the other placeholders when
+     * the value does not contain MiniMessage tags.
      *
      * @param key   The placeholder key (e.g., "player_name")
      * @param value The value to replace with
@@ -156,7 +190,7 @@ public class Lang {
      */
     @SuppressWarnings("PatternValidation")
     public static TagResolver placeholder(String key, String value) {
-        return Placeholder.parsed(key, value);
+        return LangPlaceholder.parsed(key, value);
     }
 
     /**
@@ -168,7 +202,7 @@ public class Lang {
      */
     @SuppressWarnings("PatternValidation")
     public static TagResolver unparsedPlaceholder(String key, String value) {
-        return Placeholder.unparsed(key, value);
+        return LangPlaceholder.unparsed(key, value);
     }
 
     /**
@@ -180,7 +214,7 @@ public class Lang {
      */
     @SuppressWarnings("PatternValidation")
     public static TagResolver componentPlaceholder(String key, Component component) {
-        return Placeholder.component(key, component);
+        return LangPlaceholder.component(key, component);
     }
 
     /**
@@ -192,21 +226,28 @@ public class Lang {
      */
     @SuppressWarnings("PatternValidation")
     public static TagResolver numberPlaceholder(String key, Number number) {
-        return Placeholder.unparsed(key, String.valueOf(number));
+        return LangPlaceholder.unparsed(key, String.valueOf(number));
     }
 
     /**
      * Initializes the language system by extracting default files and loading the default locale.
+     * Previously loaded locales are dropped when the new snapshot is published.
      */
     @SuppressWarnings("java:S2629")
     private void initialize() {
         FileConfiguration config = this.plugin.getConfig();
-        String langCode = config.getString("lang.default", LangUtils.DEFAULT_LANG_CODE);
-        this.defaultLocale = Locale.forLanguageTag(langCode.replace('_', '-'));
-        this.usePlayerLocale = config.getBoolean("lang.use-player-locale", false);
+        Locale newDefaultLocale = configuredDefaultLocale(config);
 
         saveDefaultLanguageFiles();
-        ensureLocaleLoaded(defaultLocale);
+
+        synchronized (loadLock) {
+            this.defaultLocale = newDefaultLocale;
+            this.usePlayerLocale = config.getBoolean("lang.use-player-locale", false);
+            this.snapshot = loadLocaleFile(LangSnapshot.EMPTY, newDefaultLocale);
+        }
+
+        if (preloadLocales)
+            preloadLocaleFiles();
 
         this.logger.info("Initialized Lang system for {} with default locale: {} (use-player-locale: {}, cache: {})",
                 plugin.getName(),
@@ -215,6 +256,17 @@ public class Lang {
                 cacheComponents ? "enabled" : "disabled");
     }
 
+    /**
+     * Gets the default locale set in the plugin configuration.
+     *
+     * @param config The plugin configuration
+     * @return The configured default locale
+     */
+    private static Locale configuredDefaultLocale(FileConfiguration config) {
+        String langCode = config.getString("lang.default", LangUtils.DEFAULT_LANG_CODE);
+        return Locale.forLanguageTag(langCode.replace('_', '-'));
+    }
+
     /**
      * Saves default language files from the plugin JAR to the lang directory.
      */
@@ -253,53 +305,304 @@ public class Lang {
         }
     }
 
+    /**
+     * Loads every language file of the lang directory in the background,
+     * so players with another locale than the default one never wait for it.
+     */
+    private void preloadLocaleFiles() {
+        File[] langFiles = new File(plugin.getDataFolder(), langDirectory).listFiles((dir, name) -> name.endsWith(".yml"));
+        if (langFiles == null)
+            return;
+
+        for (File langFile : langFiles)
+            loadLocaleAsync(fileNameToLocale(langFile.getName()));
+    }
+
+    /**
+     * Starts watching the lang directory for changed language files.
+     *
+     * @return The watcher, or null if the directory cannot be watched
+     */
+    @Nullable
+    private LangFileWatcher startFileWatcher() {
+        Path langFolder = plugin.getDataFolder().toPath().resolve(langDirectory);
+
+        try {
+            Files.createDirectories(langFolder);
+            return new LangFileWatcher(langFolder, plugin.getName(), logger, this::reloadLocaleFile);
+        } catch (IOException e) {
+            logger.error("Failed to watch lang directory: {}", langFolder, e);
+            return null;
+        }
+    }
+
+    /**
+     * Reloads a changed language file without touching the other locales.
+     * <p>
+     * The new messages are published atomically, then only the templates and
+     * cached components of the keys that changed are invalidated, or every
+     * entry of the locale if its special tags changed, see
+     * {@link #invalidateChanges(Locale, ObjectSet, boolean)}. Locales that were never
+     * loaded are only loaded if locale preloading is enabled. If the file cannot
+     * be parsed, the previous messages are kept and nothing is invalidated.
+     *
+     * @param langFile The changed language file
+     */
+    @SuppressWarnings("java:S2629")
+    private void reloadLocaleFile(Path langFile) {
+        Locale locale = fileNameToLocale(langFile.getFileName().toString());
+        LangSnapshot previous;
+        LangSnapshot updated;
+        synchronized (loadLock) {
+            previous = snapshot;
+            if (!previous.loaded(locale) && !preloadLocales)
+                return;
+
+            LangSnapshot parsed = parseLocaleFile(previous, locale);
+            if (parsed == null) {
+                logger.warn("Keeping the previous messages of locale {} until {} is fixed",
+                        locale.toLanguageTag(), langFile.getFileName());
+                return;
+            }
+
+            updated = parsed;
+            this.snapshot = updated;
+        }
+
+        ObjectSet<String> changedKeys = changedKeys(previous.messages(locale), updated.messages(locale));
+        boolean tagsChanged = !previous.specialTags(locale).equals(updated.specialTags(locale));
+        if (changedKeys.isEmpty() && !tagsChanged)
+            return;
+
+        invalidateChanges(locale, changedKeys, tagsChanged);
+        logger.info("Reloaded {} for locale {} from {} ({} changed messages{})",
+                plugin.getName(), locale.toLanguageTag(), langFile.getFileName(),
+                changedKeys.size(), tagsChanged ? ", special tags changed" : "");
+    }
+
+    /**
+     * Invalidates the templates and cached components affected by the changes of a locale.
+     * <p>
+     * Must be called after the snapshot holding the changes was published.
+     * An entry a reader computes from the previous snapshot is then either
+     * removed here, or dropped by the reader once it sees the new snapshot,
+     * see {@link #dropIfStale(Map, LangSnapshot, Object, Object)}. Tag resolvers
+     * are not invalidated, as they are rebuilt whenever the special tags of
+     * their locale differ from the ones of the snapshot being rendered.
+     *
+     * @param locale      The changed locale
+     * @param changedKeys The keys whose message changed
+     * @param tagsChanged Whether the special tags of the locale changed
+     */
+    @SuppressWarnings("unchecked")
+    private void invalidateChanges(Locale locale, ObjectSet<String> changedKeys, boolean tagsChanged) {
+        // Other locales fall back to the messages of the default locale
+        boolean fallbackChanged = locale.equals(defaultLocale);
+        Predicate<LangCacheKey> affected = cacheKey -> cacheKey.locale().equals(locale)
+                ? tagsChanged || changedKeys.contains(cacheKey.key())
+                : fallbackChanged && changedKeys.contains(cacheKey.key());
+
+        templates.keySet().removeIf(affected);
+        if (componentCache != null)
+            ((Cache<LangCacheKey, Component>) componentCache).asMap().keySet().removeIf(affected);
+
+        if (placeholderCache != null)
+            ((Cache<LangCacheKey, Component>) placeholderCache).asMap().keySet().removeIf(affected);
+    }
+
+    /**
+     * Removes an entry computed from a snapshot that was replaced in the meantime.
+     * <p>
+     * A new snapshot is always published before the entries it changes are
+     * invalidated, so an entry inserted after that invalidation is removed here.
+     *
+     * @param cache   The map the entry was inserted in
+     * @param current The snapshot the entry was computed from
+     * @param key     The entry key
+     * @param value   The entry value
+     */
+    private <K, V> void dropIfStale(Map<K, V> cache, LangSnapshot current, K key, V value) {
+        if (snapshot != current)
+            cache.remove(key, value);
+    }
+
+    /**
+     * Gets the keys that were added, removed or modified between two versions of a locale.
+     *
+     * @param previous The previous messages, or null if the locale had none
+     * @param updated  The new messages, or null if the locale has none
+     * @return The changed keys
+     */
+    private static ObjectSet<String> changedKeys(@Nullable Object2ObjectMap<String, String> previous,
+                                                 @Nullable Object2ObjectMap<String, String> updated) {
+        Object2ObjectMap<String, String> previousMessages = previous != null ? previous : Object2ObjectMaps.emptyMap();
+        Object2ObjectMap<String, String> updatedMessages = updated != null ? updated : Object2ObjectMaps.emptyMap();
+
+        ObjectSet<String> changedKeys = new ObjectOpenHashSet<>();
+        previousMessages.forEach((key, message) -> {
+            if (!message.equals(updatedMessages.get(key)))
+                changedKeys.add(key);
+        });
+
+        for (String key : updatedMessages.keySet())
+            if (!previousMessages.containsKey(key))
+                changedKeys.add(key);
+
+        return changedKeys;
+    }
+
+    /**
+     * Loads a locale in the background unless it is already loaded or loading.
+     *
+     * @param locale The locale to load
+     */
+    private void loadLocaleAsync(Locale locale) {
+        if (snapshot.loaded(locale) || !loadingLocales.add(locale))
+            return;
+
+        try {
+            Task.async(ignored -> {
+                try {
+                    ensureLocaleLoaded(locale);
+                } finally {
+                    loadingLocales.remove(locale);
+                }
+            }, plugin);
+        } catch (IllegalPluginAccessException e) {
+            // The plugin is disabled, load it on this thread instead
+            loadingLocales.remove(locale);
+            ensureLocaleLoaded(locale);
+        }
+    }
+
     /**
      * Ensures a locale is loaded. If not already loaded, loads it from disk.
-     * Thread-safe and idempotent.
+     * Thread-safe and idempotent; only the first load of a locale takes a lock.
      *
      * @param locale The locale to ensure is loaded
      */
-    private synchronized void ensureLocaleLoaded(Locale locale) {
-        if (loadedLocales.contains(locale))
+    private void ensureLocaleLoaded(Locale locale) {
+        if (snapshot.loaded(locale))
             return;
 
-        loadLocaleFile(locale);
-        loadedLocales.add(locale);
+        synchronized (loadLock) {
+            LangSnapshot current = snapshot;
+            if (current.loaded(locale))
+                return;
+
+            this.snapshot = loadLocaleFile(current, locale);
+        }
     }
 
     /**
      * Loads a single locale file from disk.
+     * <p>
+     * If the file cannot be parsed, the locale is loaded without any message.
      *
-     * @param locale The locale to load
+     * @param snapshot The snapshot to add the locale to
+     * @param locale   The locale to load
+     * @return A copy of the snapshot with the locale loaded
+     */
+    private LangSnapshot loadLocaleFile(LangSnapshot snapshot, Locale locale) {
+        LangSnapshot loaded = parseLocaleFile(snapshot, locale);
+        if (loaded != null)
+            return loaded;
+
+        return snapshot.withLocale(locale, new Object2ObjectOpenHashMap<>(), Object2ObjectMaps.emptyMap(), new Object2ObjectOpenHashMap<>());
+    }
+
+    /**
+     * Parses a single locale file from disk.
+     *
+     * @param snapshot The snapshot to add the locale to
+     * @param locale   The locale to load
+     * @return A copy of the snapshot with the locale loaded, or null if the file could not be parsed
      */
     @SuppressWarnings("java:S2629")
-    private void loadLocaleFile(Locale locale) {
+    @Nullable
+    private LangSnapshot parseLocaleFile(LangSnapshot snapshot, Locale locale) {
         String fileName = normalizeLocaleToFileName(locale);
         File langFile = new File(plugin.getDataFolder(), langDirectory + "/" + fileName);
 
+        Object2ObjectMap<String, String> localeMessages = new Object2ObjectOpenHashMap<>();
+        Object2ObjectMap<String, Object2ObjectMap<String, String>> localeTags = new Object2ObjectOpenHashMap<>();
         if (!langFile.exists()) {
             logger.debug("Language file not found for locale {}: {}", locale.toLanguageTag(), fileName);
-            return;
+            return snapshot.withLocale(locale, localeMessages, Object2ObjectMaps.emptyMap(), localeTags);
+        }
+
+        Path cacheFile = langFile.toPath().resolveSibling(LangUtils.COMPILED_CACHE_DIRECTORY)
+                .resolve(fileName.substring(0, fileName.length() - ".yml".length()) + ".bin");
+        if (compiledCache && LangBundleCache.read(cacheFile, langFile.toPath(), localeMessages, localeTags)) {
+            logger.info("Loaded {} messages for locale {} from compiled {}",
+                    localeMessages.size(), locale.toLanguageTag(), fileName);
+            return snapshot.withLocale(locale, localeMessages, parseSounds(localeMessages), localeTags);
         }
 
         try {
-            FileConfiguration config = YamlConfiguration.loadConfiguration(langFile);
+            long lastModified = langFile.lastModified();
+            byte[] source = Files.readAllBytes(langFile.toPath());
+            YamlConfiguration config = new YamlConfiguration();
+            config.loadFromString(new String(source, StandardCharsets.UTF_8));
 
             // Load messages
-            Object2ObjectMap<String, String> localeMessages = new Object2ObjectOpenHashMap<>();
             flattenConfiguration(config, "", localeMessages);
 
             if (!localeMessages.isEmpty()) {
-                messages.put(locale, localeMessages);
                 logger.info("Loaded {} messages for locale {} from {}",
                         localeMessages.size(), locale.toLanguageTag(), fileName);
             }
 
             // Load special tags
-            loadSpecialTags(locale, config);
+            loadSpecialTags(locale, config, localeTags);
 
+            if (compiledCache)
+                writeCompiledCache(cacheFile, source, lastModified, localeMessages, localeTags);
         } catch (Exception e) {
             logger.error("Failed to load language file: {}", langFile.getName(), e);
+            return null;
+        }
+
+        return snapshot.withLocale(locale, localeMessages, parseSounds(localeMessages), localeTags);
+    }
+
+    /**
+     * Parses the sound entries of a locale once, so sending a message does not parse its sound again.
+     *
+     * @param localeMessages The flattened messages of the locale
+     * @return The sounds by message key, null if the sound entry is empty or invalid
+     */
+    private Object2ObjectMap<String, @Nullable Sound> parseSounds(Object2ObjectMap<String, String> localeMessages) {
+        Object2ObjectMap<String, @Nullable Sound> sounds = new Object2ObjectOpenHashMap<>();
+        for (Object2ObjectMap.Entry<String, String> entry : localeMessages.object2ObjectEntrySet()) {
+            String soundKey = entry.getKey();
+            if (!soundKey.endsWith(LangUtils.SOUND_SUFFIX))
+                continue;
+
+            String messageKey = soundKey.substring(0, soundKey.length() - LangUtils.SOUND_SUFFIX.length());
+            String soundString = entry.getValue();
+            sounds.put(messageKey, soundString.isEmpty() ? null : parseSound(soundString, soundKey));
+        }
+
+        return sounds;
+    }
+
+    /**
+     * Writes the compiled form of a parsed language file, logging failures.
+     *
+     * @param cacheFile      The compiled file
+     * @param source         The bytes of the parsed language file
+     * @param lastModified   The modification time of the language file when it was read
+     * @param localeMessages The flattened messages
+     * @param localeTags     The special tags by category
+     */
+    private void writeCompiledCache(Path cacheFile, byte[] source, long lastModified,
+                                    Object2ObjectMap<String, String> localeMessages,
+                                    Object2ObjectMap<String, Object2ObjectMap<String, String>> localeTags) {
+        try {
+            LangBundleCache.write(cacheFile, source, lastModified, localeMessages, localeTags);
+        } catch (IOException e) {
+            logger.warn("Failed to write compiled language file: {}", cacheFile, e);
         }
     }
 
@@ -314,6 +617,17 @@ public class Lang {
         return locale.toLanguageTag().replace('-', '_') + ".yml";
     }
 
+    /**
+     * Gets the Locale of a language file name (e.g., en_US.yml -> en-US).
+     *
+     * @param fileName The filename
+     * @return The locale
+     */
+    private static Locale fileNameToLocale(String fileName) {
+        String langCode = fileName.endsWith(".yml") ? fileName.substring(0, fileName.length() - ".yml".length()) : fileName;
+        return Locale.forLanguageTag(langCode.replace('_', '-'));
+    }
+
     /**
      * Recursively flattens a YAML configuration into dot-separated keys.
      *
@@ -342,17 +656,17 @@ public class Lang {
     /**
      * Loads special tag definitions for a locale.
      *
-     * @param locale The locale
-     * @param config The configuration file
+     * @param locale         The locale
+     * @param config         The configuration file
+     * @param tagsByCategory Map to store special tags by category
      */
     @SuppressWarnings("java:S2629")
-    private void loadSpecialTags(Locale locale, FileConfiguration config) {
+    private void loadSpecialTags(Locale locale, FileConfiguration config,
+                                 Object2ObjectMap<String, Object2ObjectMap<String, String>> tagsByCategory) {
         ConfigurationSection specialSection = config.getConfigurationSection("special-tags");
         if (specialSection == null)
             return;
 
-        Object2ObjectMap<String, Object2ObjectMap<String, String>> tagsByCategory = new Object2ObjectOpenHashMap<>();
-
         for (String category : specialSection.getKeys(false)) {
             ConfigurationSection categorySection = specialSection.getConfigurationSection(category);
             if (categorySection == null)
@@ -370,7 +684,6 @@ public class Lang {
         }
 
         if (!tagsByCategory.isEmpty()) {
-            specialTags.put(locale, tagsByCategory);
             logger.debug("Loaded {} special tag categories for locale {}",
                     tagsByCategory.size(), locale.toLanguageTag());
         }
@@ -385,8 +698,16 @@ public class Lang {
     private Locale resolveLocale(@Nullable Audience audience) {
         if (usePlayerLocale && audience instanceof Player player) {
             Locale playerLocale = player.locale();
-            ensureLocaleLoaded(playerLocale);
-            return playerLocale;
+            if (snapshot.loaded(playerLocale))
+                return playerLocale;
+
+            if (!asyncLocaleLoading) {
+                ensureLocaleLoaded(playerLocale);
+                return playerLocale;
+            }
+
+            // Serve the default locale until the player's locale is loaded
+            loadLocaleAsync(playerLocale);
         }
 
         return defaultLocale;
@@ -399,22 +720,49 @@ public class Lang {
      * @param key    The message key
      * @return The raw message or fallback based on missingKeyBehavior
      */
-    @SuppressWarnings("ConstantValue")
     private String rawMessage(Locale locale, String key) {
+        return rawMessage(snapshot, locale, key);
+    }
+
+    /**
+     * Gets a raw message string for a key from a snapshot.
+     *
+     * @param current The snapshot to read from
+     * @param locale  The locale
+     * @param key     The message key
+     * @return The raw message or fallback based on missingKeyBehavior
+     */
+    private String rawMessage(LangSnapshot current, Locale locale, String key) {
+        String message = storedMessage(current, locale, key);
+
+        // Key not found - apply missing key behavior
+        return message != null ? message : handleMissingKey(key, locale);
+    }
+
+    /**
+     * Gets the message stored for a key, falling back to the default locale.
+     *
+     * @param current The snapshot to read from
+     * @param locale  The locale
+     * @param key     The message key
+     * @return The stored message, or null if the key is missing
+     */
+    @Nullable
+    @SuppressWarnings("ConstantValue")
+    private String storedMessage(LangSnapshot current, Locale locale, String key) {
         // Try requested locale
-        Object2ObjectMap<String, String> localeMessages = messages.get(locale);
+        Object2ObjectMap<String, String> localeMessages = current.messages(locale);
         if (localeMessages != null && localeMessages.containsKey(key))
             return localeMessages.get(key);
 
         // Fallback to default locale
         if (!locale.equals(defaultLocale)) {
-            localeMessages = messages.get(defaultLocale);
+            localeMessages = current.messages(defaultLocale);
             if (localeMessages != null && localeMessages.containsKey(key))
                 return localeMessages.get(key);
         }
 
-        // Key not found - apply missing key behavior
-        return handleMissingKey(key, locale);
+        return null;
     }
 
     /**
@@ -437,40 +785,91 @@ public class Lang {
         };
 
         logger.debug("Message key not found: {} (locale: {})", key, locale.toLanguageTag());
+        if (metrics != null)
+            metrics.recordMissingKey(key);
+
         return result;
     }
 
     /**
      * Creates tag resolvers for a locale, including special tags and custom placeholders.
      *
+     * @param current      The snapshot to read the special tags from
      * @param locale       The locale
      * @param placeholders Additional placeholders to include
      * @return Array of tag resolvers
      */
-    private TagResolver[] createTagResolvers(Locale locale, TagResolver... placeholders) {
-        Object2ObjectMap<String, Object2ObjectMap<String, String>> localeTags =
-                specialTags.getOrDefault(locale, Object2ObjectMaps.emptyMap());
+    private TagResolver[] createTagResolvers(LangSnapshot current, Locale locale, TagResolver... placeholders) {
+        TagResolver[] localeResolvers = localeTagResolvers(current, locale);
+        if (placeholders.length == 0)
+            return localeResolvers;
+
+        TagResolver[] resolvers = Arrays.copyOf(localeResolvers, localeResolvers.length + placeholders.length);
+        System.arraycopy(placeholders, 0, resolvers, localeResolvers.length, placeholders.length);
+        return resolvers;
+    }
+
+    /**
+     * Gets the cached tag resolvers of a locale, building them again if they
+     * were built from other special tags than the ones of the snapshot.
+     *
+     * @param current The snapshot to read the special tags from
+     * @param locale  The locale
+     * @return Array of tag resolvers, shared by every message of the locale
+     */
+    private TagResolver[] localeTagResolvers(LangSnapshot current, Locale locale) {
+        Object2ObjectMap<String, Object2ObjectMap<String, String>> localeTags = current.specialTags(locale);
+        LocaleTagResolvers cached = localeTagResolvers.get(locale);
+        if (cached != null && cached.tags() == localeTags)
+            return cached.resolvers();
+
+        TagResolver[] resolvers = buildTagResolvers(locale, localeTags);
+        localeTagResolvers.put(locale, new LocaleTagResolvers(localeTags, resolvers));
+        return resolvers;
+    }
 
+    /**
+     * Builds the special tag and custom resolvers of a locale.
+     * Prefixes, colors and the separator are parsed once here instead of on every message.
+     *
+     * @param locale     The locale
+     * @param localeTags The special tags of the locale, by category
+     * @return Array of tag resolvers, shared by every message of the locale
+     */
+    private TagResolver[] buildTagResolvers(Locale locale, Object2ObjectMap<String, Object2ObjectMap<String, String>> localeTags) {
         ObjectList<TagResolver> resolvers = new ObjectArrayList<>();
 
         // Prefix resolver
         Object2ObjectMap<String, String> prefixMap = localeTags.getOrDefault("prefix", Object2ObjectMaps.emptyMap());
         if (!prefixMap.isEmpty()) {
+            Object2ObjectMap<String, Tag> prefixTags = new Object2ObjectOpenHashMap<>(prefixMap.size());
+            prefixMap.forEach((id, pattern) -> prefixTags.put(id, Tag.inserting(miniMessage.deserialize(pattern))));
+            Tag emptyPrefix = Tag.inserting(Component.empty());
+
             resolvers.add(TagResolver.resolver("prefix", (args, ctx) -> {
                 String id = args.popOr("prefix id required").value();
-                String pattern = prefixMap.getOrDefault(id, "");
-                return Tag.inserting(miniMessage.deserialize(pattern));
+                return prefixTags.getOrDefault(id, emptyPrefix);
             }));
         }
 
         // Color resolver
         Object2ObjectMap<String, String> colorMap = localeTags.getOrDefault("ncolor", Object2ObjectMaps.emptyMap());
         if (!colorMap.isEmpty()) {
+            Object2ObjectMap<String, Tag> colorTags = new Object2ObjectOpenHashMap<>(colorMap.size());
+            colorMap.forEach((id, hex) -> {
+                TextColor color = TextColor.fromHexString(hex);
+                if (color == null) {
+                    logger.warn("Invalid color '{}' for special tag ncolor:{} (locale: {})", hex, id, locale.toLanguageTag());
+                    return;
+                }
+
+                colorTags.put(id, Tag.styling(color));
+            });
+            Tag noColor = Tag.styling(builder -> {});
+
             resolvers.add(TagResolver.resolver("ncolor", (args, ctx) -> {
                 String id = args.popOr("color id required").value();
-                String hex = colorMap.get(id);
-                TextColor color = TextColor.fromHexString(hex);
-                return Tag.styling(builder -> builder.color(color));
+                return colorTags.getOrDefault(id, noColor);
             }));
         }
 
@@ -484,10 +883,6 @@ public class Lang {
         // Custom tag resolvers from the builder
         resolvers.addAll(customTagResolvers.values());
 
-        // User-provided placeholders
-        if (placeholders.length > 0)
-            resolvers.addAll(ObjectArrayList.of(placeholders));
-
         return resolvers.toArray(new TagResolver[0]);
     }
 
@@ -502,8 +897,23 @@ public class Lang {
      */
     private Component parseComponent(Locale locale, String message,
                                      String key, TagResolver... placeholders) {
+        return parseComponent(snapshot, locale, message, key, placeholders);
+    }
+
+    /**
+     * Parses a message string into a Component with placeholders and the special tags of a snapshot.
+     *
+     * @param current      The snapshot to read the special tags from
+     * @param locale       The locale
+     * @param message      The message string
+     * @param key          The message key (for error logging)
+     * @param placeholders Placeholder resolvers
+     * @return The parsed component
+     */
+    private Component parseComponent(LangSnapshot current, Locale locale, String message,
+                                     String key, TagResolver... placeholders) {
         try {
-            TagResolver[] resolvers = createTagResolvers(locale, placeholders);
+            TagResolver[] resolvers = createTagResolvers(current, locale, placeholders);
             return miniMessage.deserialize(message, resolvers);
         } catch (ParsingException e) {
             logger.error("Failed to parse MiniMessage for key '{}' (locale: {}): {}",
@@ -513,19 +923,161 @@ public class Lang {
         }
     }
 
+    /**
+     * Renders a message with placeholders.
+     * <p>
+     * If placeholder message caching is enabled and every placeholder was
+     * created by {@link #placeholder(String, String)}, {@link #unparsedPlaceholder(String, String)}
+     * or {@link #numberPlaceholder(String, Number)}, the component is cached
+     * by locale, key and placeholder values.
+     *
+     * @param locale       The locale
+     * @param key          The message key
+     * @param placeholders Placeholder resolvers
+     * @return The component
+     */
+    @SuppressWarnings("unchecked")
+    private Component renderComponent(Locale locale, String key, TagResolver... placeholders) {
+        if (metrics != null)
+            metrics.recordRequest(key);
+
+        LangSnapshot current = snapshot;
+        if (placeholderCache == null)
+            return renderUncachedComponent(current, locale, key, placeholders);
+
+        ObjectList<LangPlaceholder> cacheable = LangPlaceholder.cacheable(placeholders);
+        if (cacheable == null)
+            return renderUncachedComponent(current, locale, key, placeholders);
+
+        LangCacheKey cacheKey = new LangCacheKey(locale, key, cacheable);
+        if (metrics != null)
+            metrics.recordCacheLookup(locale);
+
+        Cache<LangCacheKey, Component> cache = (Cache<LangCacheKey, Component>) placeholderCache;
+        Component component = cache.get(cacheKey, k -> {
+            if (metrics != null)
+                metrics.recordCacheMiss(locale);
+
+            return renderUncachedComponent(current, locale, key, placeholders);
+        });
+
+        dropIfStale(cache.asMap(), current, cacheKey, component);
+        return component;
+    }
+
+    /**
+     * Renders a message with placeholders, without the placeholder message cache.
+     * <p>
+     * When every placeholder was created by the helpers of this class, the
+     * values are substituted into the precompiled template of the message.
+     * Otherwise, the message is parsed with the placeholders.
+     *
+     * @param current      The snapshot to render from
+     * @param locale       The locale
+     * @param key          The message key
+     * @param placeholders Placeholder resolvers
+     * @return The component
+     */
+    private Component renderUncachedComponent(LangSnapshot current, Locale locale, String key, TagResolver... placeholders) {
+        long startNanos = metrics != null ? System.nanoTime() : 0L;
+
+        @Nullable Component component = null;
+        Object2ObjectMap<String, Component> values = LangPlaceholder.values(placeholders);
+        if (values != null) {
+            LangTemplate template = template(current, locale, key);
+            if (template != null)
+                component = template.render(values);
+        }
+
+        if (component == null) {
+            String raw = rawMessage(current, locale, key);
+            component = parseComponent(current, locale, raw, key, placeholders);
+        }
+
+        if (metrics != null)
+            metrics.recordRender(key, System.nanoTime() - startNanos);
+
+        return component;
+    }
+
+    /**
+     * Gets the precompiled template of a message, compiling it on first use.
+     *
+     * @param current The snapshot to compile the message from
+     * @param locale  The locale
+     * @param key     The message key
+     * @return The template, or null if the key is missing or the message cannot be templated
+     */
+    @Nullable
+    private LangTemplate template(LangSnapshot current, Locale locale, String key) {
+        LangCacheKey cacheKey = new LangCacheKey(locale, key, ObjectLists.emptyList());
+        LangTemplate template = templates.get(cacheKey);
+        if (template == null) {
+            String message = storedMessage(current, locale, key);
+            if (message == null)
+                return null;
+
+            template = LangTemplate.compile(message, createTagResolvers(current, locale));
+            templates.putIfAbsent(cacheKey, template);
+            dropIfStale(templates, current, cacheKey, template);
+        }
+
+        return template.supported() ? template : null;
+    }
+
+    /**
+     * Gets a message without placeholders from the component cache, parsing it on a miss.
+     *
+     * @param locale The locale
+     * @param key    The message key
+     * @return The component
+     */
+    private Component cachedComponent(Locale locale, String key) {
+        if (metrics != null)
+            metrics.recordRequest(key);
+
+        LangSnapshot current = snapshot;
+        LangCacheKey cacheKey = new LangCacheKey(locale, key, ObjectLists.emptyList());
+        return getOrCacheComponent(current, cacheKey, () -> {
+            long startNanos = metrics != null ? System.nanoTime() : 0L;
+
+            String raw = rawMessage(current, locale, key);
+            Component component = parseComponent(current, locale, raw, key);
+
+            if (metrics != null)
+                metrics.recordRender(key, System.nanoTime() - startNanos);
+
+            return component;
+        });
+    }
+
     /**
      * Gets or creates a cached component using Caffeine cache.
      *
+     * @param current  The snapshot the supplier renders from
      * @param cacheKey The cache key
      * @param supplier The component supplier if not cached
      * @return The component
      */
     @SuppressWarnings("unchecked")
-    private Component getOrCacheComponent(LangCacheKey cacheKey, Supplier<Component> supplier) {
+    private Component getOrCacheComponent(LangSnapshot current, LangCacheKey cacheKey, Supplier<Component> supplier) {
         if (componentCache == null)
             return supplier.get();
 
-        return ((Cache<LangCacheKey, Component>) componentCache).get(cacheKey, k -> supplier.get());
+        Cache<LangCacheKey, Component> cache = (Cache<LangCacheKey, Component>) componentCache;
+        Component component;
+        if (metrics == null) {
+            component = cache.get(cacheKey, k -> supplier.get());
+        } else {
+            metrics.recordCacheLookup(cacheKey.locale());
+            component = cache.get(cacheKey, k -> {
+                metrics.recordCacheMiss(k.locale());
+                return supplier.get();
+            });
+        }
+
+        dropIfStale(cache.asMap(), current, cacheKey, component);
+        return component;
     }
 
     // ========== Public API ==========
@@ -593,11 +1145,7 @@ public class Lang {
     public Component get(String key) {
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        LangCacheKey cacheKey = new LangCacheKey(defaultLocale, key, ObjectLists.emptyList());
-        return getOrCacheComponent(cacheKey, () -> {
-            String raw = rawMessage(defaultLocale, key);
-            return parseComponent(defaultLocale, raw, key);
-        });
+        return cachedComponent(defaultLocale, key);
     }
 
     /**
@@ -619,9 +1167,7 @@ public class Lang {
         Preconditions.checkNotNull(key, "key cannot be null");
         Preconditions.checkNotNull(placeholders, "placeholders cannot be null");
 
-        // Don't cache with placeholders as they can vary
-        String raw = rawMessage(defaultLocale, key);
-        return parseComponent(defaultLocale, raw, key, placeholders);
+        return renderComponent(defaultLocale, key, placeholders);
     }
 
     /**
@@ -636,12 +1182,7 @@ public class Lang {
         Preconditions.checkNotNull(key, "key cannot be null");
 
         Locale locale = resolveLocale(audience);
-        LangCacheKey cacheKey = new LangCacheKey(locale, key, ObjectLists.emptyList());
-
-        return getOrCacheComponent(cacheKey, () -> {
-            String raw = rawMessage(locale, key);
-            return parseComponent(locale, raw, key);
-        });
+        return cachedComponent(locale, key);
     }
 
     /**
@@ -666,8 +1207,7 @@ public class Lang {
         Preconditions.checkNotNull(placeholders, "placeholders cannot be null");
 
         Locale locale = resolveLocale(audience);
-        String raw = rawMessage(locale, key);
-        return parseComponent(locale, raw, key, placeholders);
+        return renderComponent(locale, key, placeholders);
     }
 
     /**
@@ -743,9 +1283,14 @@ public class Lang {
      */
     private ObjectList<Component> splitAndParse(Locale locale, String message,
                                                 String key, TagResolver... placeholders) {
+        if (metrics != null)
+            metrics.recordRequest(key);
+
         if (message.isEmpty())
             return ObjectLists.emptyList();
 
+        long startNanos = metrics != null ? System.nanoTime() : 0L;
+
         String[] lines = LangUtils.NEWLINE_PATTERN.split(message, -1);
         ObjectList<Component> components = new ObjectArrayList<>(lines.length);
 
@@ -753,6 +1298,9 @@ public class Lang {
             components.add(parseComponent(locale, line, key, placeholders));
         }
 
+        if (metrics != null)
+            metrics.recordRender(key, System.nanoTime() - startNanos);
+
         return components;
     }
 
@@ -794,6 +1342,7 @@ public class Lang {
      * Sound Format: {@code <sound_key>;<source>;<volume>;<pitch>}
      * <br>Example: {@code minecraft:entity.ender_dragon.death;MASTER;1.0;1.0}
      * <br>Lenient parsing: Accepts 1-4 parts with defaults (MASTER, 1.0, 1.0)
+     * <br>Sounds defined in the language files are parsed once when their locale is loaded.
      * <p>
      * Example usage:
      * <pre>{@code
@@ -813,7 +1362,10 @@ public class Lang {
         Preconditions.checkNotNull(audience, "audience cannot be null");
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        Component message = placeholders.length == 0 ? get(audience, key) : get(audience, key, placeholders);
+        Locale locale = resolveLocale(audience);
+        Component message = placeholders.length == 0
+                ? cachedComponent(locale, key)
+                : renderComponent(locale, key, placeholders);
 
         // Check if message is empty
         if (message == Component.empty())
@@ -827,21 +1379,115 @@ public class Lang {
             return;
         }
 
-        // Try to load sound from language file
-        String soundKey = key + LangUtils.SOUND_SUFFIX;
+        // Try the sound defined in the language file
+        Sound languageSound = localeSound(locale, key);
+        if (languageSound != null)
+            audience.playSound(languageSound, Sound.Emitter.self());
+    }
+
+    /**
+     * Broadcasts a message to several audiences.
+     *
+     * @param audiences The audiences
+     * @param key       The message key
+     * @see #broadcast(Iterable, Sound, String, TagResolver...)
+     */
+    public void broadcast(Iterable<? extends Audience> audiences, String key) {
+        broadcast(audiences, null, key, new TagResolver[0]);
+    }
+
+    /**
+     * Broadcasts a message with placeholders to several audiences.
+     *
+     * @param audiences    The audiences
+     * @param key          The message key
+     * @param placeholders TagResolvers for placeholders
+     * @see #broadcast(Iterable, Sound, String, TagResolver...)
+     */
+    public void broadcast(Iterable<? extends Audience> audiences, String key, TagResolver... placeholders) {
+        broadcast(audiences, null, key, placeholders);
+    }
 
-        if (!hasKey(soundKey))
-            return; // No sound defined
+    /**
+     * Broadcasts a message with sound and placeholders to every audience of a forwarding audience,
+     * such as the server.
+     *
+     * @param audience     The forwarding audience
+     * @param sound        The sound (nullable - will try to load from key_sound if null)
+     * @param key          The message key
+     * @param placeholders TagResolvers for placeholders
+     * @see #broadcast(Iterable, Sound, String, TagResolver...)
+     */
+    public void broadcast(ForwardingAudience audience, @Nullable Sound sound, String key, TagResolver... placeholders) {
+        Preconditions.checkNotNull(audience, "audience cannot be null");
 
-        String soundString = getString(audience, soundKey);
-        if (soundString.isEmpty())
-            return;
+        broadcast(audience.audiences(), sound, key, placeholders);
+    }
+
+    /**
+     * Broadcasts a message with sound and placeholders to several audiences.
+     * <p>
+     * Audiences are grouped by resolved locale and the message and its sound are
+     * only rendered once per locale, then the same component is sent to every
+     * audience of the group. Behaves like calling
+     * {@link #sendMessage(Audience, Sound, String, TagResolver...)} for each audience.
+     *
+     * @param audiences    The audiences
+     * @param sound        The sound (nullable - will try to load from key_sound if null)
+     * @param key          The message key
+     * @param placeholders TagResolvers for placeholders
+     */
+    public void broadcast(Iterable<? extends Audience> audiences, @Nullable Sound sound,
+                          String key, TagResolver... placeholders) {
+        Preconditions.checkNotNull(audiences, "audiences cannot be null");
+        Preconditions.checkNotNull(key, "key cannot be null");
+        Preconditions.checkNotNull(placeholders, "placeholders cannot be null");
+
+        Object2ObjectMap<Locale, ObjectList<Audience>> audiencesByLocale = new Object2ObjectOpenHashMap<>();
+        for (Audience audience : audiences)
+            audiencesByLocale.computeIfAbsent(resolveLocale(audience), ignored -> new ObjectArrayList<>()).add(audience);
+
+        for (Object2ObjectMap.Entry<Locale, ObjectList<Audience>> entry : audiencesByLocale.object2ObjectEntrySet()) {
+            Locale locale = entry.getKey();
+            Component message = placeholders.length == 0
+                    ? cachedComponent(locale, key)
+                    : renderComponent(locale, key, placeholders);
+
+            // Check if message is empty
+            if (message == Component.empty())
+                continue;
+
+            Sound groupSound = sound != null ? sound : localeSound(locale, key);
+            for (Audience recipient : entry.getValue()) {
+                recipient.sendMessage(message);
+
+                if (groupSound != null)
+                    recipient.playSound(groupSound, Sound.Emitter.self());
+            }
+        }
+    }
+
+    /**
+     * Gets the sound defined for a message, falling back to the default locale.
+     *
+     * @param locale The locale
+     * @param key    The message key, without the sound suffix
+     * @return The sound, or null if it is not defined, empty or invalid
+     */
+    @Nullable
+    private Sound localeSound(Locale locale, String key) {
+        LangSnapshot current = snapshot;
 
-        sendSound(audience, soundString, soundKey);
+        Object2ObjectMap<String, @Nullable Sound> localeSounds = current.sounds(locale);
+        if (localeSounds.containsKey(key) || locale.equals(defaultLocale))
+            return localeSounds.get(key);
+
+        return current.sounds(defaultLocale).get(key);
     }
 
+    @Nullable
     @SuppressWarnings("PatternValidation")
-    private void sendSound(Audience audience, String soundString, String soundKey) {
+    private Sound parseSound(String soundString, String soundKey) {
         try {
             String[] parts = soundString.split(";");
 
@@ -876,11 +1522,11 @@ public class Lang {
             }
 
             Key soundKeyParsed = Key.key(soundKeyStr);
-            Sound parsedSound = Sound.sound(soundKeyParsed, source, volume, pitch);
-            audience.playSound(parsedSound, Sound.Emitter.self());
+            return Sound.sound(soundKeyParsed, source, volume, pitch);
 
         } catch (Exception e) {
             logger.error("Failed to parse sound for key '{}': {}", soundKey, soundString, e);
+            return null;
         }
     }
 
@@ -893,34 +1539,80 @@ public class Lang {
     public boolean hasKey(String key) {
         Preconditions.checkNotNull(key, "key cannot be null");
 
-        synchronized (messages) {
-            for (Object2ObjectMap<String, String> localeMessages : messages.values())
-                if (localeMessages.containsKey(key))
-                    return true;
-
-            return false;
-        }
+        return snapshot.hasKey(key);
     }
 
     /**
      * Reloads all language files and configuration from disk.
-     * Clears all caches and re-reads configs.
+     * <p>
+     * Every loaded locale is parsed again and the result is published as a
+     * single snapshot. Then only the templates and cached components of the
+     * keys that changed are invalidated, or every entry if the default locale
+     * changed. A locale whose file cannot be parsed keeps its previous messages.
      * Don't forget to reload your plugin's config before calling this if you want to apply config changes (e.g., default locale, use-player-locale).
      */
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({"unchecked", "java:S2629"})
     public void reload() {
         logger.info("Reloading language files for {}", plugin.getName());
 
-        synchronized (this) {
-            messages.clear();
-            specialTags.clear();
-            loadedLocales.clear();
+        FileConfiguration config = this.plugin.getConfig();
+        Locale newDefaultLocale = configuredDefaultLocale(config);
+        saveDefaultLanguageFiles();
 
+        LangSnapshot previous;
+        LangSnapshot updated;
+        boolean defaultLocaleChanged;
+        synchronized (loadLock) {
+            previous = snapshot;
+            LangSnapshot reloaded = previous;
+            for (Locale locale : previous.loadedLocales()) {
+                LangSnapshot parsed = parseLocaleFile(reloaded, locale);
+                if (parsed == null) {
+                    logger.warn("Keeping the previous messages of locale {} until its language file is fixed",
+                            locale.toLanguageTag());
+                    continue;
+                }
+
+                reloaded = parsed;
+            }
+
+            if (!reloaded.loaded(newDefaultLocale))
+                reloaded = loadLocaleFile(reloaded, newDefaultLocale);
+
+            updated = reloaded;
+            defaultLocaleChanged = !newDefaultLocale.equals(defaultLocale);
+            this.defaultLocale = newDefaultLocale;
+            this.usePlayerLocale = config.getBoolean("lang.use-player-locale", false);
+            this.snapshot = updated;
+        }
+
+        if (defaultLocaleChanged) {
+            templates.clear();
             if (componentCache != null)
                 ((Cache<LangCacheKey, Component>) componentCache).invalidateAll();
 
-            initialize();
+            if (placeholderCache != null)
+                ((Cache<LangCacheKey, Component>) placeholderCache).invalidateAll();
+        } else {
+            for (Locale locale : updated.loadedLocales()) {
+                ObjectSet<String> changedKeys = changedKeys(previous.messages(locale), updated.messages(locale));
+                boolean tagsChanged = !previous.specialTags(locale).equals(updated.specialTags(locale));
+                if (!changedKeys.isEmpty() || tagsChanged)
+                    invalidateChanges(locale, changedKeys, tagsChanged);
+            }
         }
+
+        if (preloadLocales)
+            preloadLocaleFiles();
+    }
+
+    /**
+     * Stops watching the language files, if enabled with {@link LangBuilder#watchFiles(boolean)}.
+     * Should be called when the owning plugin is disabled.
+     */
+    public void shutdown() {
+        if (fileWatcher != null)
+            fileWatcher.close();
     }
 
     /**
@@ -930,31 +1622,50 @@ public class Lang {
      */
     @SuppressWarnings("unchecked")
     public String cacheStats() {
-        int totalMessages;
-        synchronized (messages) {
-            totalMessages = messages.values().stream()
-                    .mapToInt(Object2ObjectMap::size)
-                    .sum();
-        }
+        LangSnapshot current = snapshot;
+        int totalMessages = current.messageCount();
 
         if (componentCache == null)
             return "Lang Stats [%s] - Locales: %d, Messages: %d, Component Cache: disabled".formatted(
                     plugin.getName(),
-                    loadedLocales.size(),
+                    current.loadedLocales().size(),
                     totalMessages
             );
 
         CacheStats stats = ((Cache<LangCacheKey, Component>) componentCache).stats();
 
-        return "Lang Stats [%s] - Locales: %d, Messages: %d, Cache: size=%d, hits=%d, misses=%d, hitRate=%.2f%%".formatted(
+        String componentStats = "Lang Stats [%s] - Locales: %d, Messages: %d, Cache: size=%d, hits=%d, misses=%d, hitRate=%.2f%%".formatted(
                 plugin.getName(),
-                loadedLocales.size(),
+                current.loadedLocales().size(),
                 totalMessages,
                 ((Cache<LangCacheKey, Component>) componentCache).estimatedSize(),
                 stats.hitCount(),
                 stats.missCount(),
                 stats.hitRate() * 100D
         );
+
+        if (placeholderCache == null)
+            return componentStats;
+
+        CacheStats placeholderStats = ((Cache<LangCacheKey, Component>) placeholderCache).stats();
+
+        return componentStats + ", Placeholder Cache: size=%d, hits=%d, misses=%d, hitRate=%.2f%%".formatted(
+                ((Cache<LangCacheKey, Component>) placeholderCache).estimatedSize(),
+                placeholderStats.hitCount(),
+                placeholderStats.missCount(),
+                placeholderStats.hitRate() * 100D
+        );
+    }
+
+    /**
+     * Gets the render metrics of this instance.
+     *
+     * @return The metrics, or null if they are not collected
+     * @see LangBuilder#collectMetrics(boolean)
+     */
+    @Nullable
+    public LangMetrics metrics() {
+        return metrics;
     }
 
     /**
@@ -981,6 +1692,16 @@ public class Lang {
      * @return Unmodifiable set of loaded locales
      */
     public ObjectSet<Locale> loadedLocales() {
-        return ObjectSets.unmodifiable(loadedLocales);
+        return snapshot.loadedLocales();
+    }
+
+    /**
+     * Tag resolvers of a locale, with the special tags they were built from.
+     *
+     * @param tags      The special tags of the locale, by category
+     * @param resolvers The resolvers built from these tags
+     */
+    private record LocaleTagResolvers(Object2ObjectMap<String, Object2ObjectMap<String, String>> tags,
+                                      TagResolver[] resolvers) {
     }
-}
\ No newline at end of file
+}
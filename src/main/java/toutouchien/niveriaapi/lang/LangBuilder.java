@@ -23,11 +23,18 @@ public class LangBuilder {
     @Nullable Logger logger;
     boolean cacheComponents = true;
     int maxCacheSize = LangUtils.DEFAULT_MAX_CACHE;
+    boolean cachePlaceholderMessages = false;
+    int maxPlaceholderCacheSize = LangUtils.DEFAULT_MAX_PLACEHOLDER_CACHE;
     @Nullable Duration cacheExpireAfterAccess = LangUtils.DEFAULT_CACHE_EXPIRE;
     @Nullable Duration cacheExpireAfterWrite = null;
     boolean recordStats = false;
     MissingKeyBehavior missingKeyBehavior = MissingKeyBehavior.RETURN_KEY;
     String langDirectory = "lang";
+    boolean preloadLocales = true;
+    boolean asyncLocaleLoading = true;
+    boolean watchFiles = false;
+    boolean compiledCache = true;
+    boolean collectMetrics = false;
 
     LangBuilder(JavaPlugin plugin) {
         this.plugin = Preconditions.checkNotNull(plugin, "plugin cannot be null");
@@ -55,6 +62,20 @@ public class LangBuilder {
         return this;
     }
 
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder cachePlaceholderMessages(boolean cache) {
+        this.cachePlaceholderMessages = cache;
+        return this;
+    }
+
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder maxPlaceholderCacheSize(int size) {
+        Preconditions.checkArgument(size > 0, "size must be positive");
+
+        this.maxPlaceholderCacheSize = size;
+        return this;
+    }
+
     @Contract(value = "_ -> this", mutates = "this")
     public LangBuilder cacheExpireAfterAccess(@Nullable Duration duration) {
         this.cacheExpireAfterAccess = duration;
@@ -89,6 +110,36 @@ public class LangBuilder {
         return this;
     }
 
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder preloadLocales(boolean preload) {
+        this.preloadLocales = preload;
+        return this;
+    }
+
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder asyncLocaleLoading(boolean async) {
+        this.asyncLocaleLoading = async;
+        return this;
+    }
+
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder watchFiles(boolean watch) {
+        this.watchFiles = watch;
+        return this;
+    }
+
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder compiledCache(boolean compiledCache) {
+        this.compiledCache = compiledCache;
+        return this;
+    }
+
+    @Contract(value = "_ -> this", mutates = "this")
+    public LangBuilder collectMetrics(boolean collect) {
+        this.collectMetrics = collect;
+        return this;
+    }
+
     @Contract(value = "_ -> this", mutates = "this")
     public LangBuilder addDefaultLanguageFiles(String... files) {
         Preconditions.checkNotNull(files, "files cannot be null");
@@ -0,0 +1,188 @@
+package toutouchien.niveriaapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * On-disk compiled form of parsed language files, so YAML is only parsed when a file changes.
+ * <p>
+ * A compiled file holds the flattened messages and special tags of a locale,
+ * with the modification time, size and SHA-256 hash of the source file. It is
+ * read whole into a heap buffer and used as long as the source file has
+ * the same modification time and size, or the same hash if only its
+ * modification time changed.
+ */
+@NullMarked
+final class LangBundleCache {
+    private static final int MAGIC = 0x4E4C4E47; // NLNG
+    private static final int VERSION = 1;
+    private static final int HASH_LENGTH = 32;
+
+    private LangBundleCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Reads a compiled language file if it is up to date with its source file.
+     *
+     * @param cacheFile      The compiled file
+     * @param sourceFile     The YAML source file
+     * @param localeMessages Map to store the flattened messages
+     * @param localeTags     Map to store the special tags by category
+     * @return True if the compiled file was up to date and read, false if the source file must be parsed
+     */
+    static boolean read(Path cacheFile, Path sourceFile,
+                        Object2ObjectMap<String, String> localeMessages,
+                        Object2ObjectMap<String, Object2ObjectMap<String, String>> localeTags) {
+        if (!Files.isRegularFile(cacheFile))
+            return false;
+
+        try {
+            // Not memory-mapped: a mapping keeps the file locked on Windows until it is garbage collected,
+            // so write could not replace it
+            ByteBuffer buffer = readFully(cacheFile);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+                return false;
+
+            long lastModified = buffer.getLong();
+            long size = buffer.getLong();
+            byte[] hash = new byte[HASH_LENGTH];
+            buffer.get(hash);
+
+            if (size != Files.size(sourceFile))
+                return false;
+
+            if (lastModified != Files.getLastModifiedTime(sourceFile).toMillis()
+                    && !Arrays.equals(hash, sha256(Files.readAllBytes(sourceFile))))
+                return false;
+
+            readStrings(buffer, localeMessages);
+
+            int categories = buffer.getInt();
+            for (int i = 0; i < categories; i++) {
+                String category = readString(buffer);
+                Object2ObjectMap<String, String> categoryTags = new Object2ObjectOpenHashMap<>();
+                readStrings(buffer, categoryTags);
+                localeTags.put(category, categoryTags);
+            }
+
+            return true;
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            // Unreadable or truncated compiled file, parse the source file instead
+            localeMessages.clear();
+            localeTags.clear();
+            return false;
+        }
+    }
+
+    /**
+     * Writes the compiled form of a language file, replacing the previous one atomically.
+     *
+     * @param cacheFile      The compiled file
+     * @param source         The bytes of the YAML source file that were parsed
+     * @param lastModified   The modification time of the source file when it was read
+     * @param localeMessages The flattened messages
+     * @param localeTags     The special tags by category
+     * @throws IOException if the compiled file cannot be written
+     */
+    static void write(Path cacheFile, byte[] source, long lastModified,
+                      Object2ObjectMap<String, String> localeMessages,
+                      Object2ObjectMap<String, Object2ObjectMap<String, String>> localeTags) throws IOException {
+        Files.createDirectories(cacheFile.getParent());
+        Path temporaryFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(lastModified);
+            output.writeLong(source.length);
+            output.write(sha256(source));
+
+            writeStrings(output, localeMessages);
+
+            output.writeInt(localeTags.size());
+            for (Map.Entry<String, Object2ObjectMap<String, String>> category : localeTags.entrySet()) {
+                writeString(output, category.getKey());
+                writeStrings(output, category.getValue());
+            }
+        }
+
+        try {
+            Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static ByteBuffer readFully(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw new IOException("Compiled language file too large: " + size + " bytes");
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Read until the buffer is full or the end of the file is reached
+            }
+
+            return buffer.flip();
+        }
+    }
+
+    private static void readStrings(ByteBuffer buffer, Object2ObjectMap<String, String> output) {
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++)
+            output.put(readString(buffer), readString(buffer));
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining())
+            throw new IllegalArgumentException("Invalid string length: " + length);
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutputStream output, Object2ObjectMap<String, String> strings) throws IOException {
+        output.writeInt(strings.size());
+        for (Map.Entry<String, String> entry : strings.entrySet()) {
+            writeString(output, entry.getKey());
+            writeString(output, entry.getValue());
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        // Length-prefixed UTF-8, as writeUTF is limited to 64 KiB
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package toutouchien.niveriaapi.lang;
+
+import com.google.common.base.Preconditions;
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Watches the lang directory of a {@link Lang} and reports the language files
+ * that were created, modified or deleted.
+ * <p>
+ * Events are collected for a short debounce delay so an editor saving a file
+ * in several writes only triggers a single reload of that file. The listener
+ * runs on the watcher thread.
+ */
+@NullMarked
+final class LangFileWatcher implements Runnable {
+    private static final long DEBOUNCE_MILLIS = 200L;
+    private static final String EXTENSION = ".yml";
+
+    private final Path directory;
+    private final Logger logger;
+    private final Consumer<Path> listener;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /**
+     * Creates a watcher and starts its thread.
+     *
+     * @param directory The lang directory
+     * @param name      The name of the plugin owning the Lang instance, for the thread name
+     * @param logger    The logger used to report listener errors
+     * @param listener  Called with each changed language file
+     * @throws IOException if the directory cannot be watched
+     */
+    LangFileWatcher(Path directory, String name, Logger logger, Consumer<Path> listener) throws IOException {
+        Preconditions.checkNotNull(directory, "directory cannot be null");
+        Preconditions.checkNotNull(name, "name cannot be null");
+        Preconditions.checkNotNull(logger, "logger cannot be null");
+        Preconditions.checkNotNull(listener, "listener cannot be null");
+
+        this.directory = directory;
+        this.logger = logger;
+        this.listener = listener;
+        this.watchService = directory.getFileSystem().newWatchService();
+        directory.register(this.watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+
+        this.thread = new Thread(this, "NiveriaAPI-Lang-Watcher-" + name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = this.watchService.take();
+                Thread.sleep(DEBOUNCE_MILLIS);
+
+                Set<Path> changedFiles = new LinkedHashSet<>();
+                do {
+                    collectChangedFiles(key, changedFiles);
+                    key.reset();
+                } while ((key = this.watchService.poll()) != null);
+
+                for (Path changedFile : changedFiles) {
+                    try {
+                        this.listener.accept(changedFile);
+                    } catch (RuntimeException e) {
+                        this.logger.error("Failed to reload language file: {}", changedFile.getFileName(), e);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            // Watcher closed
+        }
+    }
+
+    /**
+     * Stops watching the lang directory.
+     */
+    void close() {
+        this.thread.interrupt();
+
+        try {
+            this.watchService.close();
+        } catch (IOException e) {
+            this.logger.warn("Failed to close the language file watcher", e);
+        }
+    }
+
+    private void collectChangedFiles(WatchKey key, Set<Path> changedFiles) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were lost, consider every language file changed
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory, "*" + EXTENSION)) {
+                    files.forEach(changedFiles::add);
+                } catch (IOException e) {
+                    this.logger.warn("Failed to list language files after a watcher overflow", e);
+                }
+
+                continue;
+            }
+
+            Path fileName = (Path) event.context();
+            if (fileName.toString().endsWith(EXTENSION))
+                changedFiles.add(this.directory.resolve(fileName));
+        }
+    }
+}
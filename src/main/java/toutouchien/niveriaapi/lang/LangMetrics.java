@@ -0,0 +1,264 @@
+package toutouchien.niveriaapi.lang;
+
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongLists;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMaps;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Render metrics of a {@link Lang}, enabled with {@link LangBuilder#collectMetrics(boolean)}.
+ * <p>
+ * For each message key, it counts the requests and the renders, which are
+ * the requests that were not served by a cache, and records how long the
+ * renders took in a histogram. It also counts the cache hits and misses of
+ * each locale and the requests for missing keys.
+ * <p>
+ * Counters are updated without locks, so the returned statistics may be
+ * slightly inconsistent with each other while messages are rendered.
+ */
+@NullMarked
+public final class LangMetrics {
+    private static final long[] HISTOGRAM_BOUNDS = {
+            1_000L,
+            10_000L,
+            100_000L,
+            1_000_000L,
+            10_000_000L
+    };
+
+    private final Map<String, KeyCounters> keys = new ConcurrentHashMap<>();
+    private final Map<Locale, LocaleCounters> locales = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> missingKeys = new ConcurrentHashMap<>();
+
+    LangMetrics() {
+    }
+
+    /**
+     * Gets the upper bounds of the render time histogram buckets, in nanoseconds.
+     * <p>
+     * The bucket {@code i} of {@link KeyStats#histogram()} counts the renders
+     * that took at most {@code bounds[i]} nanoseconds and more than the previous
+     * bound. The last bucket counts the renders slower than every bound.
+     *
+     * @return A copy of the histogram bounds
+     */
+    public static long[] histogramBounds() {
+        return HISTOGRAM_BOUNDS.clone();
+    }
+
+    /**
+     * Records a request for a message.
+     *
+     * @param key The message key
+     */
+    void recordRequest(String key) {
+        keyCounters(key).requests.increment();
+    }
+
+    /**
+     * Records a render of a message that was not served by a cache.
+     *
+     * @param key   The message key
+     * @param nanos The render time in nanoseconds
+     */
+    void recordRender(String key, long nanos) {
+        KeyCounters counters = keyCounters(key);
+        counters.renders.increment();
+        counters.totalNanos.add(nanos);
+        counters.maxNanos.accumulateAndGet(nanos, Math::max);
+        counters.histogram.incrementAndGet(bucket(nanos));
+    }
+
+    /**
+     * Records a lookup in a component cache.
+     *
+     * @param locale The locale of the message
+     */
+    void recordCacheLookup(Locale locale) {
+        localeCounters(locale).lookups.increment();
+    }
+
+    /**
+     * Records a component cache miss. Every miss must follow a lookup.
+     *
+     * @param locale The locale of the message
+     */
+    void recordCacheMiss(Locale locale) {
+        localeCounters(locale).misses.increment();
+    }
+
+    /**
+     * Records a request for a key missing from both the requested and the default locale.
+     *
+     * @param key The missing key
+     */
+    void recordMissingKey(String key) {
+        missingKeys.computeIfAbsent(key, ignored -> new LongAdder()).increment();
+    }
+
+    /**
+     * Gets the statistics of every requested message key.
+     *
+     * @return Statistics by key, in no particular order
+     */
+    public ObjectList<KeyStats> keyStats() {
+        ObjectList<KeyStats> stats = new ObjectArrayList<>(keys.size());
+        keys.forEach((key, counters) -> stats.add(counters.stats(key)));
+        return stats;
+    }
+
+    /**
+     * Gets the rendered keys with the highest average render time.
+     * These are the messages that benefit the most from templating or caching.
+     *
+     * @param limit The maximum number of keys to return
+     * @return Statistics of the slowest keys, slowest first
+     */
+    public ObjectList<KeyStats> slowestKeys(int limit) {
+        Preconditions.checkArgument(limit >= 0, "limit cannot be negative");
+
+        ObjectList<KeyStats> stats = keyStats();
+        stats.removeIf(keyStats -> keyStats.renders() == 0);
+        stats.sort(Comparator.comparingDouble(KeyStats::averageRenderNanos).reversed());
+        return stats.size() > limit ? new ObjectArrayList<>(stats.subList(0, limit)) : stats;
+    }
+
+    /**
+     * Gets the cache statistics of every locale with a cached message.
+     *
+     * @return Statistics by locale, in no particular order
+     */
+    public ObjectList<LocaleStats> localeStats() {
+        ObjectList<LocaleStats> stats = new ObjectArrayList<>(locales.size());
+        locales.forEach((locale, counters) -> {
+            long misses = counters.misses.sum();
+            // Read lookups last so hits are never negative
+            long lookups = counters.lookups.sum();
+            stats.add(new LocaleStats(locale, Math.max(0L, lookups - misses), misses));
+        });
+
+        return stats;
+    }
+
+    /**
+     * Gets the number of requests for each missing key.
+     *
+     * @return Unmodifiable map of request counts by missing key
+     */
+    public Object2LongMap<String> missingKeys() {
+        Object2LongMap<String> counts = new Object2LongOpenHashMap<>(missingKeys.size());
+        missingKeys.forEach((key, count) -> counts.put(key, count.sum()));
+        return Object2LongMaps.unmodifiable(counts);
+    }
+
+    /**
+     * Clears every recorded metric.
+     */
+    public void reset() {
+        keys.clear();
+        locales.clear();
+        missingKeys.clear();
+    }
+
+    private KeyCounters keyCounters(String key) {
+        KeyCounters counters = keys.get(key);
+        return counters != null ? counters : keys.computeIfAbsent(key, ignored -> new KeyCounters());
+    }
+
+    private LocaleCounters localeCounters(Locale locale) {
+        LocaleCounters counters = locales.get(locale);
+        return counters != null ? counters : locales.computeIfAbsent(locale, ignored -> new LocaleCounters());
+    }
+
+    private static int bucket(long nanos) {
+        for (int i = 0; i < HISTOGRAM_BOUNDS.length; i++) {
+            if (nanos <= HISTOGRAM_BOUNDS[i])
+                return i;
+        }
+
+        return HISTOGRAM_BOUNDS.length;
+    }
+
+    private static final class KeyCounters {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder renders = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BOUNDS.length + 1);
+
+        private KeyStats stats(String key) {
+            LongList buckets = new LongArrayList(histogram.length());
+            for (int i = 0; i < histogram.length(); i++)
+                buckets.add(histogram.get(i));
+
+            return new KeyStats(
+                    key,
+                    requests.sum(),
+                    renders.sum(),
+                    totalNanos.sum(),
+                    maxNanos.get(),
+                    LongLists.unmodifiable(buckets)
+            );
+        }
+    }
+
+    private static final class LocaleCounters {
+        private final LongAdder lookups = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+
+    /**
+     * Render statistics of a message key.
+     *
+     * @param key              the message key
+     * @param requests         number of times the message was requested
+     * @param renders          number of requests that were not served by a cache
+     * @param totalRenderNanos total render time in nanoseconds
+     * @param maxRenderNanos   slowest render time in nanoseconds
+     * @param histogram        number of renders in each bucket of {@link #histogramBounds()}
+     */
+    public record KeyStats(String key, long requests, long renders,
+                           long totalRenderNanos, long maxRenderNanos, LongList histogram) {
+        /**
+         * Gets the average render time.
+         *
+         * @return The average render time in nanoseconds, or 0 if the message was never rendered
+         */
+        public double averageRenderNanos() {
+            return renders == 0 ? 0D : (double) totalRenderNanos / renders;
+        }
+    }
+
+    /**
+     * Component cache statistics of a locale, covering both the message and the placeholder message caches.
+     *
+     * @param locale      the locale
+     * @param cacheHits   number of messages served by a cache
+     * @param cacheMisses number of messages rendered then cached
+     */
+    public record LocaleStats(Locale locale, long cacheHits, long cacheMisses) {
+        /**
+         * Gets the ratio of cache lookups that were hits.
+         *
+         * @return The hit rate between 0 and 1, or 1 if the cache was never used
+         */
+        public double hitRate() {
+            long lookups = cacheHits + cacheMisses;
+            return lookups == 0 ? 1D : (double) cacheHits / lookups;
+        }
+    }
+}
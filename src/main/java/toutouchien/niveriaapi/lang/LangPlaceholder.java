@@ -0,0 +1,151 @@
+package toutouchien.niveriaapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.ParsingException;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Placeholder created by the placeholder helpers of {@link Lang}.
+ * <p>
+ * It resolves exactly like the matching {@link Placeholder} factory, but
+ * exposes its name and value so {@link Lang} can substitute it into a
+ * precompiled {@link LangTemplate}, or use it in the key of a cached message
+ * when its value is a string.
+ */
+@NullMarked
+final class LangPlaceholder implements TagResolver {
+    private final String name;
+    @Nullable private final String text;
+    @Nullable private final Component component;
+    private final TagResolver resolver;
+
+    private LangPlaceholder(String name, @Nullable String text, @Nullable Component component, TagResolver resolver) {
+        this.name = name;
+        this.text = text;
+        this.component = component;
+        this.resolver = resolver;
+    }
+
+    /**
+     * Creates a placeholder whose value is parsed for MiniMessage tags.
+     *
+     * @param name  The placeholder key
+     * @param value The value to parse
+     * @return The placeholder
+     */
+    @SuppressWarnings("PatternValidation")
+    static LangPlaceholder parsed(String name, String value) {
+        return new LangPlaceholder(name, value, null, Placeholder.parsed(name, value));
+    }
+
+    /**
+     * Creates a placeholder inserting a text value as is.
+     *
+     * @param name  The placeholder key
+     * @param value The text to insert
+     * @return The placeholder
+     */
+    @SuppressWarnings("PatternValidation")
+    static LangPlaceholder unparsed(String name, String value) {
+        Component component = Component.text(value);
+        return new LangPlaceholder(name, value, component, Placeholder.component(name, component));
+    }
+
+    /**
+     * Creates a placeholder inserting a component.
+     *
+     * @param name  The placeholder key
+     * @param value The component to insert
+     * @return The placeholder
+     */
+    @SuppressWarnings("PatternValidation")
+    static LangPlaceholder component(String name, Component value) {
+        return new LangPlaceholder(name, null, value, Placeholder.component(name, value));
+    }
+
+    /**
+     * Collects the values of placeholders if they can all be substituted into a template.
+     *
+     * @param placeholders The placeholders passed to a {@link Lang} method
+     * @return The values by placeholder key, or null if a placeholder was not created
+     * by {@link Lang} or is parsed
+     */
+    @Nullable
+    static Object2ObjectMap<String, Component> values(TagResolver[] placeholders) {
+        Object2ObjectMap<String, Component> values = new Object2ObjectOpenHashMap<>(placeholders.length);
+        for (TagResolver placeholder : placeholders) {
+            if (!(placeholder instanceof LangPlaceholder langPlaceholder) || langPlaceholder.component == null)
+                return null;
+
+            values.put(langPlaceholder.name, langPlaceholder.component);
+        }
+
+        return values;
+    }
+
+    /**
+     * Collects placeholders for the key of a cached message if they all have a string value.
+     *
+     * @param placeholders The placeholders passed to a {@link Lang} method
+     * @return The placeholders, comparing by name and value, or null if one cannot be cached
+     */
+    @Nullable
+    static ObjectList<LangPlaceholder> cacheable(TagResolver[] placeholders) {
+        ObjectList<LangPlaceholder> cacheable = new ObjectArrayList<>(placeholders.length);
+        for (TagResolver placeholder : placeholders) {
+            if (!(placeholder instanceof LangPlaceholder langPlaceholder) || langPlaceholder.text == null)
+                return null;
+
+            cacheable.add(langPlaceholder);
+        }
+
+        return cacheable;
+    }
+
+    @Override
+    @Nullable
+    public Tag resolve(String name, ArgumentQueue arguments, Context ctx) throws ParsingException {
+        return this.resolver.resolve(name, arguments, ctx);
+    }
+
+    @Override
+    public boolean has(String name) {
+        return this.resolver.has(name);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o)
+            return true;
+
+        if (!(o instanceof LangPlaceholder that))
+            return false;
+
+        // Parsed and unparsed placeholders with the same text differ by their component
+        return name.equals(that.name)
+                && Objects.equals(text, that.text)
+                && (component == null) == (that.component == null)
+                && (text != null || Objects.equals(component, that.component));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                name,
+                text,
+                component == null
+        );
+    }
+}
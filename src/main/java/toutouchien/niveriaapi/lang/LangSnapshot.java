@@ -0,0 +1,178 @@
+package toutouchien.niveriaapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+import it.unimi.dsi.fastutil.objects.ObjectSets;
+import net.kyori.adventure.sound.Sound;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Immutable view of the messages, sounds and special tags loaded by a {@link Lang}.
+ * <p>
+ * {@link Lang} publishes a new snapshot through a volatile field whenever a
+ * locale is loaded or the files are reloaded, so reads never take a lock.
+ * The keys of every locale are merged in a single set for {@link Lang#hasKey(String)}.
+ */
+@NullMarked
+final class LangSnapshot {
+    /**
+     * Snapshot without any locale loaded.
+     */
+    static final LangSnapshot EMPTY = new LangSnapshot(
+            Object2ObjectMaps.emptyMap(),
+            Object2ObjectMaps.emptyMap(),
+            Object2ObjectMaps.emptyMap(),
+            ObjectSets.emptySet(),
+            ObjectSets.emptySet(),
+            0
+    );
+
+    private final Object2ObjectMap<Locale, Object2ObjectMap<String, String>> messages;
+    private final Object2ObjectMap<Locale, Object2ObjectMap<String, @Nullable Sound>> sounds;
+    private final Object2ObjectMap<Locale, Object2ObjectMap<String, Object2ObjectMap<String, String>>> specialTags;
+    private final ObjectSet<Locale> loadedLocales;
+    private final ObjectSet<String> keys;
+    private final int messageCount;
+
+    private LangSnapshot(Object2ObjectMap<Locale, Object2ObjectMap<String, String>> messages,
+                         Object2ObjectMap<Locale, Object2ObjectMap<String, @Nullable Sound>> sounds,
+                         Object2ObjectMap<Locale, Object2ObjectMap<String, Object2ObjectMap<String, String>>> specialTags,
+                         ObjectSet<Locale> loadedLocales, ObjectSet<String> keys, int messageCount) {
+        this.messages = messages;
+        this.sounds = sounds;
+        this.specialTags = specialTags;
+        this.loadedLocales = loadedLocales;
+        this.keys = keys;
+        this.messageCount = messageCount;
+    }
+
+    /**
+     * Creates a copy of this snapshot with a locale loaded.
+     * Empty messages, sounds or special tags are not stored, but the locale is still marked as loaded.
+     *
+     * @param locale         The locale
+     * @param localeMessages The flattened messages of the locale
+     * @param localeSounds   The sounds of the locale by message key, null if the sound entry is empty or invalid
+     * @param localeTags     The special tags of the locale, by category
+     * @return The new snapshot
+     */
+    LangSnapshot withLocale(Locale locale,
+                            Object2ObjectMap<String, String> localeMessages,
+                            Object2ObjectMap<String, @Nullable Sound> localeSounds,
+                            Object2ObjectMap<String, Object2ObjectMap<String, String>> localeTags) {
+        Object2ObjectMap<Locale, Object2ObjectMap<String, String>> newMessages = new Object2ObjectOpenHashMap<>(this.messages);
+        Object2ObjectMap<String, String> previousMessages = localeMessages.isEmpty()
+                ? newMessages.remove(locale)
+                : newMessages.put(locale, Object2ObjectMaps.unmodifiable(new Object2ObjectOpenHashMap<>(localeMessages)));
+
+        Object2ObjectMap<Locale, Object2ObjectMap<String, @Nullable Sound>> newSounds = new Object2ObjectOpenHashMap<>(this.sounds);
+        if (localeSounds.isEmpty())
+            newSounds.remove(locale);
+        else
+            newSounds.put(locale, Object2ObjectMaps.unmodifiable(new Object2ObjectOpenHashMap<>(localeSounds)));
+
+        Object2ObjectMap<Locale, Object2ObjectMap<String, Object2ObjectMap<String, String>>> newSpecialTags = new Object2ObjectOpenHashMap<>(this.specialTags);
+        if (localeTags.isEmpty())
+            newSpecialTags.remove(locale);
+        else
+            newSpecialTags.put(locale, Object2ObjectMaps.unmodifiable(new Object2ObjectOpenHashMap<>(localeTags)));
+
+        ObjectSet<Locale> newLoadedLocales = new ObjectOpenHashSet<>(this.loadedLocales);
+        newLoadedLocales.add(locale);
+
+        ObjectSet<String> newKeys = new ObjectOpenHashSet<>();
+        for (Object2ObjectMap<String, String> messagesOfLocale : newMessages.values())
+            newKeys.addAll(messagesOfLocale.keySet());
+
+        int newMessageCount = this.messageCount + localeMessages.size()
+                - (previousMessages == null ? 0 : previousMessages.size());
+
+        return new LangSnapshot(
+                Object2ObjectMaps.unmodifiable(newMessages),
+                Object2ObjectMaps.unmodifiable(newSounds),
+                Object2ObjectMaps.unmodifiable(newSpecialTags),
+                ObjectSets.unmodifiable(newLoadedLocales),
+                ObjectSets.unmodifiable(newKeys),
+                newMessageCount
+        );
+    }
+
+    /**
+     * Gets the messages of a locale.
+     *
+     * @param locale The locale
+     * @return The messages by key, or null if the locale has no messages
+     */
+    @Nullable
+    Object2ObjectMap<String, String> messages(Locale locale) {
+        return this.messages.get(locale);
+    }
+
+    /**
+     * Gets the sounds of a locale, parsed from the sound entries of its messages.
+     *
+     * @param locale The locale
+     * @return The sounds by message key, null if the sound entry is empty or invalid,
+     * empty if the locale has no sound entries
+     */
+    Object2ObjectMap<String, @Nullable Sound> sounds(Locale locale) {
+        return this.sounds.getOrDefault(locale, Object2ObjectMaps.emptyMap());
+    }
+
+    /**
+     * Gets the special tags of a locale.
+     * <p>
+     * The same map instance is returned by every later snapshot until the
+     * locale is loaded again, so it can be compared by identity.
+     *
+     * @param locale The locale
+     * @return The special tags by category, empty if the locale has none
+     */
+    Object2ObjectMap<String, Object2ObjectMap<String, String>> specialTags(Locale locale) {
+        return this.specialTags.getOrDefault(locale, Object2ObjectMaps.emptyMap());
+    }
+
+    /**
+     * Checks whether a locale was loaded, even if it has no language file.
+     *
+     * @param locale The locale
+     * @return True if the locale was loaded
+     */
+    boolean loaded(Locale locale) {
+        return this.loadedLocales.contains(locale);
+    }
+
+    /**
+     * Gets the loaded locales.
+     *
+     * @return Unmodifiable set of loaded locales
+     */
+    ObjectSet<Locale> loadedLocales() {
+        return this.loadedLocales;
+    }
+
+    /**
+     * Checks if a key exists in any loaded locale.
+     *
+     * @param key The message key
+     * @return True if the key exists
+     */
+    boolean hasKey(String key) {
+        return this.keys.contains(key);
+    }
+
+    /**
+     * Gets the number of messages of every loaded locale.
+     *
+     * @return The total number of messages
+     */
+    int messageCount() {
+        return this.messageCount;
+    }
+}
@@ -0,0 +1,179 @@
+package toutouchien.niveriaapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.ParsingException;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Message parsed once into a component tree with holes where its placeholders go.
+ * <p>
+ * Every tag unknown to the standard, locale and custom resolvers is parsed as a
+ * hole, inserted the same way as a component placeholder. Rendering replaces
+ * the holes with the placeholder values and compacts the result, like
+ * MiniMessage does after parsing, without lexing the message again.
+ * <p>
+ * Messages whose placeholders take arguments or end up outside the children of
+ * the tree (in a hover text or a translation argument for instance) cannot be
+ * templated and are {@link #supported() unsupported}.
+ */
+@NullMarked
+final class LangTemplate {
+    /**
+     * Template of a message that must be parsed on every render.
+     */
+    static final LangTemplate UNSUPPORTED = new LangTemplate(Component.empty(), Component.empty(), -1);
+
+    private static final String HOLE_PREFIX = "niveriaapi.lang.placeholder.";
+    private static final MiniMessage MINI_MESSAGE = MiniMessage.builder()
+            .postProcessor(UnaryOperator.identity())
+            .build();
+
+    private final Component component;
+    private final Component compacted;
+    private final int holes;
+
+    private LangTemplate(Component component, Component compacted, int holes) {
+        this.component = component;
+        this.compacted = compacted;
+        this.holes = holes;
+    }
+
+    /**
+     * Compiles a message into a template.
+     *
+     * @param message   The message string
+     * @param resolvers The locale and custom tag resolvers
+     * @return The template, or {@link #UNSUPPORTED} if the message cannot be templated
+     */
+    static LangTemplate compile(String message, TagResolver[] resolvers) {
+        TagResolver resolver = TagResolver.resolver(resolvers);
+        HoleResolver holeResolver = new HoleResolver(TagResolver.resolver(TagResolver.standard(), resolver));
+        Component component;
+        try {
+            component = MINI_MESSAGE.deserialize(message, TagResolver.resolver(resolver, holeResolver));
+        } catch (ParsingException e) {
+            return UNSUPPORTED;
+        }
+
+        if (holeResolver.withArguments)
+            return UNSUPPORTED;
+
+        // Holes that are not reachable through the children could not be substituted
+        int holes = countHoles(component);
+        if (holes != countOccurrences(GsonComponentSerializer.gson().serialize(component), HOLE_PREFIX))
+            return UNSUPPORTED;
+
+        return new LangTemplate(component, component.compact(), holes);
+    }
+
+    /**
+     * Renders this template with placeholder values.
+     * Holes without a value are rendered as the literal tag, like MiniMessage does.
+     *
+     * @param values The values by placeholder key
+     * @return The rendered component
+     */
+    Component render(Object2ObjectMap<String, Component> values) {
+        if (this.holes == 0)
+            return this.compacted;
+
+        return substitute(this.component, values).compact();
+    }
+
+    /**
+     * Gets whether the message could be templated.
+     *
+     * @return True if {@link #render(Object2ObjectMap)} can be used
+     */
+    boolean supported() {
+        return this.holes >= 0;
+    }
+
+    private static Component substitute(Component component, Object2ObjectMap<String, Component> values) {
+        if (component instanceof TranslatableComponent translatable && translatable.key().startsWith(HOLE_PREFIX)) {
+            String name = translatable.key().substring(HOLE_PREFIX.length());
+            Component value = values.get(name);
+            return value != null ? value : Component.text("<" + name + ">");
+        }
+
+        List<Component> children = component.children();
+        @Nullable List<Component> substituted = null;
+        for (int i = 0; i < children.size(); i++) {
+            Component child = children.get(i);
+            Component replacement = substitute(child, values);
+            if (replacement == child)
+                continue;
+
+            if (substituted == null)
+                substituted = new ObjectArrayList<>(children);
+
+            substituted.set(i, replacement);
+        }
+
+        return substituted == null ? component : component.children(substituted);
+    }
+
+    private static int countHoles(Component component) {
+        if (component instanceof TranslatableComponent translatable && translatable.key().startsWith(HOLE_PREFIX))
+            return 1;
+
+        int holes = 0;
+        for (Component child : component.children())
+            holes += countHoles(child);
+
+        return holes;
+    }
+
+    private static int countOccurrences(String string, String substring) {
+        int count = 0;
+        int index = 0;
+        while ((index = string.indexOf(substring, index)) != -1) {
+            count++;
+            index += substring.length();
+        }
+
+        return count;
+    }
+
+    /**
+     * Resolves every tag unknown to the other resolvers as a hole, remembering if one had arguments.
+     */
+    private static final class HoleResolver implements TagResolver {
+        private final TagResolver known;
+        private boolean withArguments;
+
+        private HoleResolver(TagResolver known) {
+            this.known = known;
+        }
+
+        @Override
+        @Nullable
+        public Tag resolve(String name, ArgumentQueue arguments, Context ctx) {
+            if (this.known.has(name))
+                return null;
+
+            if (arguments.hasNext())
+                this.withArguments = true;
+
+            return Tag.selfClosingInserting(Component.translatable(HOLE_PREFIX + name));
+        }
+
+        @Override
+        public boolean has(String name) {
+            return !this.known.has(name);
+        }
+    }
+}
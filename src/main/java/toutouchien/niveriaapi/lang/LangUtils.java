@@ -7,8 +7,10 @@ public final class LangUtils {
     public static final Pattern NEWLINE_PATTERN = Pattern.compile("\\R");
     public static final String SOUND_SUFFIX = "_sound";
     public static final int DEFAULT_MAX_CACHE = 2048;
+    public static final int DEFAULT_MAX_PLACEHOLDER_CACHE = 4096;
     public static final Duration DEFAULT_CACHE_EXPIRE = Duration.ofMinutes(30);
     public static final String DEFAULT_LANG_CODE = "en_US";
+    public static final String COMPILED_CACHE_DIRECTORY = ".cache";
 
     private LangUtils() {
         throw new IllegalStateException("Utility class");
@@ -4,29 +4,47 @@ import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
+import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import toutouchien.niveriaapi.annotations.Overexcited;
 import toutouchien.niveriaapi.menu.component.MenuComponent;
 import toutouchien.niveriaapi.menu.event.NiveriaInventoryClickEvent;
 
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
 /**
  * Abstract base class for creating custom GUI menus.
  * <p>
  * This class provides a framework for building interactive inventory-based menus
  * with component-based rendering and event handling.
+ * <p>
+ * Components render into a frame holding the desired item of each slot. When
+ * the outermost frame ends, each slot the frame wrote is compared with the
+ * item the inventory holds, and only the slots whose item changed are written.
  */
 @NullMarked
 public abstract class Menu implements InventoryHolder {
+    /**
+     * Number of changed slots from which the whole inventory is sent in a single
+     * packet, instead of letting the server send a packet per changed slot.
+     */
+    private static final int FULL_SYNC_THRESHOLD = 8;
+
     protected final MenuContext context;
     private final Player player;
     private final Object2ObjectOpenHashMap<String, MenuComponent> componentIDs;
     @Nullable private Inventory inventory;
     @Nullable private MenuComponent root;
+    private @Nullable ItemStack[] frame = new ItemStack[0];
+    private int frameDepth;
 
     /**
      * Constructs a new Menu for the specified player.
@@ -71,6 +89,7 @@ public abstract class Menu implements InventoryHolder {
         Component title = this.title();
         this.root = this.root(this.context);
         this.inventory = Bukkit.createInventory(this, this.root.height() * 9, title);
+        this.frame = new ItemStack[this.inventory.getSize()];
 
         this.root.onAdd(this.context);
         this.root.render(this.context);
@@ -130,13 +149,16 @@ public abstract class Menu implements InventoryHolder {
     /**
      * Handles click events within the menu.
      * <p>
-     * Delegates the click event to the root component and triggers a re-render
-     * of the menu contents.
+     * Delegates the click event to the root component, then renders the clicked
+     * component and every dirty component. Unless {@link #incrementalRendering()}
+     * is enabled, every component is considered dirty after a click. In both
+     * cases, everything is rendered in a single frame, so only the slots whose
+     * item changed are written to the inventory.
      *
      * @param event the inventory click event to handle
      * @throws NullPointerException if event is null
      */
-    @Overexcited(reason = "Calls render on each click")
+    @Overexcited(reason = "Renders every component on each click unless incremental rendering is enabled")
     public void handleClick(NiveriaInventoryClickEvent event) {
         Preconditions.checkNotNull(event, "event cannot be null");
 
@@ -145,8 +167,115 @@ public abstract class Menu implements InventoryHolder {
         // Only render if the context is still pointing to this menu
         // If onClick triggered the opening/closing of another menu we shouldn't render this menu
         // It was causing ArrayIndexOutOfBoundsException and ghost items
-        if (this.context.menu() == this)
-            this.root.render(this.context);
+        if (this.context.menu() != this)
+            return;
+
+        MenuComponent clicked = event.component();
+        if (clicked != null)
+            clicked.markDirty();
+
+        if (!this.incrementalRendering())
+            this.root.markDirty();
+
+        this.renderDirty();
+    }
+
+    /**
+     * Renders every dirty component of this menu in a single frame.
+     * <p>
+     * Call this method after components changed outside of a click, for
+     * example once data fetched asynchronously is available. Does nothing
+     * if the menu is not opened or is no longer the current menu.
+     */
+    public void renderDirty() {
+        MenuComponent root = this.root;
+        if (root == null || this.inventory == null || this.context.menu() != this)
+            return;
+
+        this.renderFrame(frame -> root.renderDirty(this.context));
+    }
+
+    /**
+     * Renders into the frame of this menu, then writes the changed slots to the inventory.
+     * <p>
+     * The renderer receives the frame, an array indexed by slot to fill with the
+     * item each slot should display. Slots the renderer does not write keep their
+     * current item, and must not be read. Frames can be nested: renders started
+     * by the renderer share its frame, and the inventory is only updated when the
+     * outermost frame ends.
+     * <p>
+     * When many slots changed and the player is viewing this menu, the whole
+     * inventory is sent in a single packet instead of one packet per slot.
+     *
+     * @param renderer the function writing the desired items into the frame
+     * @throws NullPointerException if renderer is null
+     */
+    public void renderFrame(Consumer<@Nullable ItemStack[]> renderer) {
+        Preconditions.checkNotNull(renderer, "renderer cannot be null");
+
+        if (this.frameDepth == 0)
+            this.startFrame();
+
+        this.frameDepth++;
+        try {
+            renderer.accept(this.frame);
+        } finally {
+            this.frameDepth--;
+        }
+
+        if (this.frameDepth == 0)
+            this.flushFrame();
+    }
+
+    /**
+     * Renders an item into a single slot.
+     * <p>
+     * Inside a frame, the item is written to the frame. Otherwise, the slot is
+     * written to the inventory, unless it already displays that item.
+     *
+     * @param slot the slot index
+     * @param item the item to display, or null to clear the slot
+     * @throws ArrayIndexOutOfBoundsException if the slot is outside the inventory
+     */
+    public void renderSlot(int slot, @Nullable ItemStack item) {
+        this.renderFrame(frame -> frame[slot] = item);
+    }
+
+    /**
+     * Marks every slot of the frame as not written.
+     */
+    private void startFrame() {
+        Arrays.fill(this.frame, Unwritten.ITEM);
+    }
+
+    /**
+     * Writes the slots of the frame that differ from the items in the inventory.
+     * <p>
+     * Only the slots written by the frame are read from the inventory, which
+     * can be changed directly through {@link #inventory()} or by the server.
+     */
+    private void flushFrame() {
+        Inventory inventory = this.getInventory();
+        int changedSlots = 0;
+
+        for (int slot = 0; slot < this.frame.length; slot++) {
+            ItemStack item = this.frame[slot];
+            if (item == Unwritten.ITEM)
+                continue;
+
+            ItemStack rendered = item == null || item.isEmpty() ? null : item;
+            ItemStack current = inventory.getItem(slot);
+            if (Objects.equals(current == null || current.isEmpty() ? null : current, rendered))
+                continue;
+
+            inventory.setItem(slot, rendered);
+            changedSlots++;
+        }
+
+        // Inventory changes are sent at the end of the tick with a packet per slot,
+        // sending the whole inventory now is cheaper and leaves nothing to send then
+        if (changedSlots >= FULL_SYNC_THRESHOLD && this.player.getOpenInventory().getTopInventory().getHolder() == this)
+            this.player.updateInventory();
     }
 
     /**
@@ -197,6 +326,20 @@ public abstract class Menu implements InventoryHolder {
         return true;
     }
 
+    /**
+     * Indicates whether a click only renders the dirty components.
+     * <p>
+     * Components mark themselves dirty when their own state changes, and the
+     * clicked component is always rendered again. Menus whose items depend on
+     * state shared between components should keep this disabled, or call
+     * {@link MenuComponent#markDirty()} on the components affected by a change.
+     *
+     * @return true to only render dirty components after a click, false to render every component
+     */
+    protected boolean incrementalRendering() {
+        return false;
+    }
+
     /**
      * Creates and returns the root component for this menu.
      * <p>
@@ -285,4 +428,12 @@ public abstract class Menu implements InventoryHolder {
 
         return inventory;
     }
+
+    /**
+     * Marks the slots of a frame that were not written since it started.
+     * Only compared by identity, so any instance never handed out works.
+     */
+    private static final class Unwritten {
+        private static final ItemStack ITEM = ItemStack.of(Material.BARRIER);
+    }
 }
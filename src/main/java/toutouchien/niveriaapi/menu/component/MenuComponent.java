@@ -5,6 +5,8 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import it.unimi.dsi.fastutil.objects.ObjectLists;
 import org.bukkit.inventory.ItemStack;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.index.qual.Positive;
@@ -14,18 +16,29 @@ import org.jspecify.annotations.Nullable;
 import toutouchien.niveriaapi.menu.MenuContext;
 import toutouchien.niveriaapi.menu.event.NiveriaInventoryClickEvent;
 
+import java.util.Arrays;
+
 /**
  * Abstract base class for all menu components.
  * <p>
  * Components represent individual UI elements within a menu that can be rendered,
  * positioned, and interacted with. Each component has a position, size, visibility,
  * and enabled state, and can handle click events.
+ * <p>
+ * Components track whether they need to be rendered again: a component is dirty
+ * when its state changed since its last render, and its ancestors know that one
+ * of their descendants is dirty, so {@link #renderDirty(MenuContext)} only renders
+ * the dirty subtrees.
  */
 @NullMarked
 public abstract class MenuComponent {
     @Nullable
     private final String id;
 
+    @Nullable private MenuComponent parent;
+    private boolean dirty = true;
+    private boolean childDirty;
+
     private boolean visible = true;
     private boolean enabled = true;
 
@@ -145,6 +158,67 @@ public abstract class MenuComponent {
         return items;
     }
 
+    /**
+     * Renders the items of this component into a frame, an array indexed by slot
+     * shared by every component rendered together.
+     * <p>
+     * Implementations write the item of every slot the component occupies,
+     * or null to clear a slot. It is only called while the component is visible.
+     * The default implementation copies {@link #items(MenuContext)} into the frame;
+     * components override it to write into the frame directly, without
+     * allocating a map and a set on each render.
+     *
+     * @param context the menu context
+     * @param frame   the frame to write the items to, indexed by slot
+     */
+    public void renderInto(MenuContext context, @Nullable ItemStack[] frame) {
+        Int2ObjectMap<ItemStack> items = this.items(context);
+        for (int slot : this.slots(context))
+            frame[slot] = items.get(slot);
+    }
+
+    /**
+     * Helper method to fill the component's area of a frame with the same item.
+     *
+     * @param frame the frame to write the item to, indexed by slot
+     * @param item  the item to fill the component area with, or null to clear it
+     */
+    protected void fill(@Nullable ItemStack[] frame, @Nullable ItemStack item) {
+        int baseSlot = this.slot();
+        int rowLength = 9;
+
+        for (int row = 0; row < this.height; row++) {
+            int rowStart = baseSlot + row * rowLength;
+            Arrays.fill(frame, rowStart, rowStart + this.width, item);
+        }
+    }
+
+    /**
+     * Helper method to register a component in a slot index, an array mapping
+     * each slot to the component displayed in it.
+     * <p>
+     * Slots already mapped to another component are kept, so components indexed
+     * first take precedence. Does nothing if the component is not visible.
+     *
+     * @param index     the slot index to fill
+     * @param component the component to register
+     */
+    protected static void indexSlots(@Nullable MenuComponent[] index, MenuComponent component) {
+        if (!component.visible())
+            return;
+
+        int baseSlot = component.slot();
+        int rowLength = 9;
+
+        for (int row = 0; row < component.height; row++) {
+            for (int col = 0; col < component.width; col++) {
+                int slot = baseSlot + col + (row * rowLength);
+                if (slot < index.length && index[slot] == null)
+                    index[slot] = component;
+            }
+        }
+    }
+
     /**
      * Returns the set of inventory slot indices that this component occupies.
      * <p>
@@ -175,8 +249,9 @@ public abstract class MenuComponent {
     /**
      * Renders this component to the menu's inventory.
      * <p>
-     * This method retrieves the component's items and slots, then places
-     * the items into the appropriate inventory slots.
+     * This method renders the component into the menu's frame with
+     * {@link #renderInto(MenuContext, ItemStack[])}, see
+     * {@link toutouchien.niveriaapi.menu.Menu#renderFrame(java.util.function.Consumer)}.
      *
      * @param context the menu context
      * @throws NullPointerException if context is null
@@ -187,13 +262,140 @@ public abstract class MenuComponent {
         if (!this.visible())
             return;
 
-        Int2ObjectMap<ItemStack> items = this.items(context);
-        IntSet slots = this.slots(context);
+        context.menu().renderFrame(frame -> this.renderInto(context, frame));
+
+        this.clean();
+    }
+
+    /**
+     * Renders the dirty parts of this component.
+     * <p>
+     * If this component is dirty, it is fully rendered. Otherwise, only its
+     * dirty descendants are rendered. Does nothing if nothing changed since
+     * the last render.
+     *
+     * @param context the menu context
+     * @throws NullPointerException if context is null
+     */
+    public void renderDirty(MenuContext context) {
+        Preconditions.checkNotNull(context, "context cannot be null");
 
-        for (int slot : slots) {
-            ItemStack item = items.get(slot);
-            context.menu().inventory().setItem(slot, item);
+        if (this.dirty) {
+            this.render(context);
+            return;
         }
+
+        if (!this.childDirty)
+            return;
+
+        this.childDirty = false;
+        for (MenuComponent child : this.children())
+            child.renderDirty(context);
+    }
+
+    /**
+     * Marks this component as dirty, so it is rendered again on the next
+     * {@link #renderDirty(MenuContext)} of itself or of one of its ancestors.
+     * <p>
+     * Components call this method when their own state changes. Call it when
+     * the items of a component depend on external state that changed.
+     */
+    public void markDirty() {
+        this.dirty = true;
+
+        if (this.parent != null)
+            this.parent.markChildDirty();
+    }
+
+    /**
+     * Returns whether this component or one of its descendants must be rendered again.
+     *
+     * @return true if a render is needed, false otherwise
+     */
+    public boolean dirty() {
+        return this.dirty || this.childDirty;
+    }
+
+    /**
+     * Returns the child components currently displayed by this component.
+     * <p>
+     * Containers must override this method so that dirty children can be
+     * rendered without rendering the whole container.
+     *
+     * @return the displayed child components
+     */
+    protected ObjectList<MenuComponent> children() {
+        return ObjectLists.emptyList();
+    }
+
+    /**
+     * Called when the position or the visibility of a child component changed.
+     * <p>
+     * Containers override this method to invalidate what they computed from
+     * the layout of their children, such as a slot index.
+     */
+    protected void childLayoutChanged() {
+
+    }
+
+    /**
+     * Declares this component as the parent of a child component, so that the
+     * child marking itself dirty is propagated to this component.
+     *
+     * @param child the child component
+     * @throws NullPointerException if child is null
+     */
+    protected void attach(MenuComponent child) {
+        Preconditions.checkNotNull(child, "child cannot be null");
+
+        child.parent = this;
+        if (child.dirty())
+            this.markChildDirty();
+    }
+
+    /**
+     * Removes this component as the parent of a child component.
+     *
+     * @param child the child component
+     * @throws NullPointerException if child is null
+     */
+    protected void detach(MenuComponent child) {
+        Preconditions.checkNotNull(child, "child cannot be null");
+
+        if (child.parent == this)
+            child.parent = null;
+    }
+
+    /**
+     * Marks this component and its ancestors as having a dirty descendant.
+     */
+    private void markChildDirty() {
+        for (MenuComponent component = this; component != null && !component.childDirty; component = component.parent)
+            component.childDirty = true;
+    }
+
+    /**
+     * Marks the area of this component as needing a render, after its position or visibility changed.
+     * The parent is rendered again, as it may have to draw over the previous area.
+     */
+    private void markLayoutDirty() {
+        this.markDirty();
+
+        if (this.parent != null) {
+            this.parent.childLayoutChanged();
+            this.parent.markDirty();
+        }
+    }
+
+    /**
+     * Marks this component and its displayed descendants as rendered.
+     */
+    private void clean() {
+        this.dirty = false;
+        this.childDirty = false;
+
+        for (MenuComponent child : this.children())
+            child.clean();
     }
 
     /**
@@ -207,8 +409,12 @@ public abstract class MenuComponent {
         Preconditions.checkArgument(x >= 0, "x cannot be negative: %s", x);
         Preconditions.checkArgument(y >= 0, "y cannot be negative: %s", y);
 
+        if (this.x == x && this.y == y)
+            return;
+
         this.x = x;
         this.y = y;
+        this.markLayoutDirty();
     }
 
     /**
@@ -286,7 +492,11 @@ public abstract class MenuComponent {
      * @param visible true to make the component visible, false to hide it
      */
     public void visible(boolean visible) {
+        if (this.visible == visible)
+            return;
+
         this.visible = visible;
+        this.markLayoutDirty();
     }
 
     /**
@@ -304,7 +514,11 @@ public abstract class MenuComponent {
      * @param enabled true to enable the component, false to disable it
      */
     public void enabled(boolean enabled) {
+        if (this.enabled == enabled)
+            return;
+
         this.enabled = enabled;
+        this.markDirty();
     }
 
     /**
@@ -4,6 +4,7 @@ import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.ints.*;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import it.unimi.dsi.fastutil.objects.ObjectList;
+import it.unimi.dsi.fastutil.objects.ObjectLists;
 import it.unimi.dsi.fastutil.objects.ObjectSet;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
@@ -11,13 +12,20 @@ import org.checkerframework.checker.index.qual.NonNegative;
 import org.jetbrains.annotations.Contract;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
+import toutouchien.niveriaapi.NiveriaAPI;
+import toutouchien.niveriaapi.menu.Menu;
 import toutouchien.niveriaapi.menu.MenuContext;
 import toutouchien.niveriaapi.menu.component.MenuComponent;
 import toutouchien.niveriaapi.menu.component.interactive.Button;
 import toutouchien.niveriaapi.menu.event.NiveriaInventoryClickEvent;
+import toutouchien.niveriaapi.utils.Task;
 
 import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 /**
  * A container component that displays multiple components across paginated pages.
@@ -27,16 +35,30 @@ import java.util.function.Function;
  * It provides navigation buttons for moving between pages, including back/next buttons
  * and optional first/last page buttons. Navigation buttons can have different appearances
  * when disabled (at first/last page).
+ * <p>
+ * Instead of a list of components, a paginator can be backed by a {@link PaginatorSource}.
+ * The page count then comes from the total count of the source, and only the components
+ * of the displayed page are created, fetched when the page is displayed and removed when
+ * it is left. With prefetching enabled, the neighbouring pages are fetched and kept too.
  */
 @NullMarked
 public class Paginator extends MenuComponent {
     private final ObjectList<MenuComponent> components;
     private final IntList layoutSlots;
+    private final ObjectList<Button> navigationButtons;
     private Function<MenuContext, ItemStack> backItem, nextItem;
     @Nullable private Function<MenuContext, ItemStack> firstPageItem, lastPageItem;
     @Nullable private Function<MenuContext, ItemStack> offBackItem, offNextItem, offFirstPageItem, offLastPageItem;
     private int page;
     @Nullable private ObjectList<MenuComponent> cachedPageComponents;
+    @Nullable private final PaginatorSource source;
+    private final boolean prefetch;
+    private final Int2ObjectMap<ObjectList<MenuComponent>> loadedPages;
+    private final IntSet loadingPages;
+    private int sourceSize;
+    private boolean sizeLoading;
+    private int sourceGeneration;
+    private @Nullable MenuComponent @Nullable [] slotIndex;
 
     /**
      * Constructs a new Paginator with the specified configuration.
@@ -46,6 +68,8 @@ public class Paginator extends MenuComponent {
     private Paginator(Builder builder) {
         super(builder);
         this.components = new ObjectArrayList<>(builder.components);
+        this.components.forEach(this::attach);
+        this.navigationButtons = new ObjectArrayList<>();
 
         this.backItem = builder.backItem;
         this.nextItem = builder.nextItem;
@@ -59,6 +83,12 @@ public class Paginator extends MenuComponent {
 
         this.page = builder.page;
 
+        this.source = builder.source;
+        this.prefetch = builder.prefetch;
+        this.loadedPages = new Int2ObjectOpenHashMap<>();
+        this.loadingPages = new IntOpenHashSet();
+        Preconditions.checkState(this.source == null || this.components.isEmpty(), "A paginator cannot have both components and a source");
+
         this.layoutSlots = new IntArrayList(width * height);
 
         // Initial calculation of layout slots
@@ -79,11 +109,15 @@ public class Paginator extends MenuComponent {
      * Called when this paginator is added to a menu.
      * <p>
      * Propagates the onAdd event to all child components if the paginator is visible.
+     * With a source, only its total count is fetched, the pages are fetched when rendered.
      *
      * @param context the menu context
      */
     @Override
     public void onAdd(MenuContext context) {
+        if (this.source != null)
+            this.loadSize(context, this.source);
+
         this.components.forEach(component -> {
             component.onAdd(context);
 
@@ -97,6 +131,7 @@ public class Paginator extends MenuComponent {
      * Called when this paginator is removed from a menu.
      * <p>
      * Cleans up all child components and unregisters their IDs from the menu.
+     * With a source, the loaded pages are discarded and pending fetches are ignored.
      *
      * @param context the menu context
      */
@@ -109,6 +144,9 @@ public class Paginator extends MenuComponent {
             if (removedID != null)
                 context.menu().unregisterComponentID(removedID);
         });
+
+        if (this.source != null)
+            this.unloadSource(context);
     }
 
     /**
@@ -125,6 +163,8 @@ public class Paginator extends MenuComponent {
                 this.layoutSlots.add(MenuComponent.toSlot(absX, absY));
             }
         }
+
+        this.slotIndex = null;
     }
 
     @Override
@@ -136,8 +176,8 @@ public class Paginator extends MenuComponent {
     /**
      * Handles click events within the paginator.
      * <p>
-     * Iterates through the current page's components, ensures they are correctly
-     * positioned, and delegates the event if the click falls within their slots.
+     * Delegates the event to the component of the current page displayed in
+     * the clicked slot, found with a slot index.
      *
      * @param event   the inventory click event
      * @param context the menu context
@@ -147,17 +187,9 @@ public class Paginator extends MenuComponent {
         if (!this.interactable())
             return;
 
-        ObjectList<MenuComponent> pageComponents = this.currentPageComponents();
-        for (int i = 0; i < pageComponents.size(); i++) {
-            if (i >= this.layoutSlots.size())
-                break; // Should not happen if page size matches, but safety check
-
-            MenuComponent component = pageComponents.get(i);
-            if (component.slots(context).contains(event.getSlot())) {
-                component.onClick(event, context);
-                return;
-            }
-        }
+        MenuComponent component = this.componentAt(event.getSlot());
+        if (component != null)
+            component.onClick(event, context);
     }
 
     /**
@@ -187,6 +219,38 @@ public class Paginator extends MenuComponent {
         return items;
     }
 
+    /**
+     * Renders the current page of this paginator into a frame.
+     * <p>
+     * Every layout slot is cleared, then the components of the page are
+     * positioned on their layout slot and render over it. With a source, the
+     * page is fetched first, and stays empty until the total count and the page
+     * are fetched.
+     *
+     * @param context the menu context
+     * @param frame   the frame to write the items to, indexed by slot
+     */
+    @Override
+    public void renderInto(MenuContext context, @Nullable ItemStack[] frame) {
+        if (this.source != null && !this.sizeLoading)
+            this.loadPages(context, this.source);
+
+        for (int i = 0; i < this.layoutSlots.size(); i++)
+            frame[this.layoutSlots.getInt(i)] = null;
+
+        ObjectList<MenuComponent> pageComponents = this.currentPageComponents();
+        for (int i = 0; i < pageComponents.size(); i++) {
+            if (i >= this.layoutSlots.size()) break;
+
+            MenuComponent component = pageComponents.get(i);
+            int slot = this.layoutSlots.getInt(i);
+
+            component.position(MenuComponent.toX(slot), MenuComponent.toY(slot));
+            if (component.visible())
+                component.renderInto(context, frame);
+        }
+    }
+
     /**
      * Returns the set of slots that this paginator can occupy.
      * <p>
@@ -208,6 +272,16 @@ public class Paginator extends MenuComponent {
         super.render(context);
     }
 
+    /**
+     * Returns the components displayed on the current page.
+     *
+     * @return the components of the current page
+     */
+    @Override
+    protected ObjectList<MenuComponent> children() {
+        return this.currentPageComponents();
+    }
+
     /**
      * Returns the list of components to display on the current page.
      * <p>
@@ -222,13 +296,19 @@ public class Paginator extends MenuComponent {
             return this.cachedPageComponents;
 
         int maxItemsPerPage = this.width * this.height;
-        int totalItems = this.components.size();
+        int totalItems = this.totalItems();
 
         int maxPage = Math.max(1, (int) Math.ceil((double) totalItems / maxItemsPerPage) - 1);
         int safePage = Math.min(this.page, maxPage);
         if (this.page != safePage)
             this.page = safePage;
 
+        if (this.source != null) {
+            ObjectList<MenuComponent> loadedComponents = this.loadedPages.get(this.page);
+            this.cachedPageComponents = loadedComponents != null ? loadedComponents : ObjectLists.emptyList();
+            return this.cachedPageComponents;
+        }
+
         int startIndex = Math.min(this.page * maxItemsPerPage, totalItems);
         int endIndex = Math.min(startIndex + maxItemsPerPage, totalItems);
 
@@ -241,6 +321,290 @@ public class Paginator extends MenuComponent {
      */
     private void invalidateCache() {
         this.cachedPageComponents = null;
+        this.slotIndex = null;
+    }
+
+    /**
+     * Returns the total number of components across all pages.
+     *
+     * @return the total count of the source if there is one, the number of components otherwise
+     */
+    private int totalItems() {
+        return this.source != null ? this.sourceSize : this.components.size();
+    }
+
+    /**
+     * Fetches the total count of the source.
+     * <p>
+     * A count fetched synchronously is applied right away. Otherwise, it is applied
+     * on the thread of the player once fetched, and the dirty components are rendered.
+     *
+     * @param context the menu context
+     * @param source  the source of this paginator
+     */
+    private void loadSize(MenuContext context, PaginatorSource source) {
+        int generation = this.sourceGeneration;
+        this.sizeLoading = true;
+        CompletableFuture<Integer> future = source.size(context);
+        if (future.isDone()) {
+            this.sizeLoaded(generation, future);
+            return;
+        }
+
+        Menu menu = context.menu();
+        future.whenComplete((size, throwable) -> Task.run(task -> {
+            if (this.sizeLoaded(generation, future))
+                menu.renderDirty();
+        }, NiveriaAPI.instance(), context.player()));
+    }
+
+    /**
+     * Applies a fetched total count, unless the paginator was refreshed or removed
+     * since the fetch started, and moves back to the last page if it is now past it.
+     *
+     * @param generation the source generation when the fetch started
+     * @param future     the completed fetch
+     * @return true if the count was applied, false otherwise
+     */
+    private boolean sizeLoaded(int generation, CompletableFuture<Integer> future) {
+        if (generation != this.sourceGeneration)
+            return false;
+
+        this.sizeLoading = false;
+        int size;
+        try {
+            size = Math.max(0, future.join());
+        } catch (CompletionException | CancellationException e) {
+            NiveriaAPI.instance().getSLF4JLogger().error("Failed to fetch the size of a paginator", e);
+            return false;
+        }
+
+        this.sourceSize = size;
+        this.invalidateCache();
+        this.markPagesDirty();
+
+        int maxPage = Math.max(0, this.maxPage());
+        if (this.page > maxPage)
+            this.changePage(maxPage);
+
+        return true;
+    }
+
+    /**
+     * Discards the pages far from the current page, and fetches the current
+     * page and its neighbours if prefetching.
+     *
+     * @param context the menu context
+     * @param source  the source of this paginator
+     */
+    private void loadPages(MenuContext context, PaginatorSource source) {
+        this.unloadPages(context, this::inLoadWindow);
+        this.loadPage(context, source, this.page);
+
+        if (this.prefetch) {
+            this.loadPage(context, source, this.page + 1);
+            this.loadPage(context, source, this.page - 1);
+        }
+    }
+
+    /**
+     * Fetches a page from the source, unless it is out of range, loaded or being fetched.
+     * <p>
+     * A page fetched synchronously is added right away. Otherwise, it is added on the
+     * thread of the player once fetched, and the dirty components are rendered.
+     *
+     * @param context the menu context
+     * @param source  the source of this paginator
+     * @param page    the page index
+     */
+    private void loadPage(MenuContext context, PaginatorSource source, int page) {
+        if (page < 0 || page > this.maxPage() || this.loadedPages.containsKey(page) || !this.loadingPages.add(page))
+            return;
+
+        int maxItemsPerPage = this.width * this.height;
+        int offset = page * maxItemsPerPage;
+        int limit = Math.min(maxItemsPerPage, this.sourceSize - offset);
+        int generation = this.sourceGeneration;
+
+        CompletableFuture<ObjectList<MenuComponent>> future = source.page(context, offset, limit);
+        if (future.isDone()) {
+            this.pageLoaded(context, generation, page, future);
+            return;
+        }
+
+        Menu menu = context.menu();
+        future.whenComplete((components, throwable) -> Task.run(task -> {
+            if (this.pageLoaded(context, generation, page, future))
+                menu.renderDirty();
+        }, NiveriaAPI.instance(), context.player()));
+    }
+
+    /**
+     * Adds the components of a fetched page, unless the paginator was refreshed
+     * or removed since the fetch started, or the page is now far from the current page.
+     *
+     * @param context    the menu context
+     * @param generation the source generation when the fetch started
+     * @param page       the page index
+     * @param future     the completed fetch
+     * @return true if the components were added, false otherwise
+     */
+    private boolean pageLoaded(MenuContext context, int generation, int page, CompletableFuture<ObjectList<MenuComponent>> future) {
+        if (generation != this.sourceGeneration)
+            return false;
+
+        this.loadingPages.remove(page);
+        if (!this.inLoadWindow(page))
+            return false;
+
+        ObjectList<MenuComponent> components;
+        try {
+            components = new ObjectArrayList<>(future.join());
+        } catch (CompletionException | CancellationException e) {
+            NiveriaAPI.instance().getSLF4JLogger().error("Failed to fetch page {} of a paginator", page, e);
+            return false;
+        }
+
+        for (MenuComponent component : components) {
+            this.attach(component);
+            component.onAdd(context);
+
+            String addedID = component.id();
+            if (addedID != null)
+                context.menu().registerComponentID(addedID, component);
+        }
+
+        this.loadedPages.put(page, components);
+        if (page == this.page) {
+            this.invalidateCache();
+            this.markDirty();
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes the components of the loaded pages that should not be kept.
+     *
+     * @param context the menu context
+     * @param keep    predicate returning true for the page indexes to keep
+     */
+    private void unloadPages(MenuContext context, IntPredicate keep) {
+        IntIterator iterator = this.loadedPages.keySet().iterator();
+        while (iterator.hasNext()) {
+            int page = iterator.nextInt();
+            if (keep.test(page))
+                continue;
+
+            for (MenuComponent component : this.loadedPages.get(page)) {
+                component.onRemove(context);
+                this.detach(component);
+
+                String removedID = component.id();
+                if (removedID != null)
+                    context.menu().unregisterComponentID(removedID);
+            }
+
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Discards every loaded page and ignores the fetches in progress.
+     *
+     * @param context the menu context
+     */
+    private void unloadSource(MenuContext context) {
+        this.sourceGeneration++;
+        this.sizeLoading = false;
+        this.loadingPages.clear();
+        this.unloadPages(context, page -> false);
+        this.invalidateCache();
+    }
+
+    /**
+     * Checks whether a page should stay loaded, being the current page or,
+     * when prefetching, one of its neighbours.
+     *
+     * @param page the page index
+     * @return true if the page should stay loaded, false otherwise
+     */
+    private boolean inLoadWindow(int page) {
+        return Math.abs(page - this.page) <= (this.prefetch ? 1 : 0);
+    }
+
+    /**
+     * Invalidates the slot index after a component moved or changed visibility.
+     */
+    @Override
+    protected void childLayoutChanged() {
+        this.slotIndex = null;
+    }
+
+    /**
+     * Returns the component of the current page displayed in a slot.
+     * <p>
+     * The slot index is built on the first lookup after the page or the
+     * layout changed, positioning the components of the page on their
+     * layout slot like a render does.
+     *
+     * @param slot the slot index
+     * @return the component in the slot, or null if there is none
+     */
+    @Nullable
+    private MenuComponent componentAt(int slot) {
+        @Nullable MenuComponent[] index = this.slotIndex;
+        if (index == null) {
+            index = new MenuComponent[(this.y() + this.height) * 9];
+
+            ObjectList<MenuComponent> pageComponents = this.currentPageComponents();
+            for (int i = 0; i < pageComponents.size(); i++) {
+                if (i >= this.layoutSlots.size()) break;
+
+                MenuComponent component = pageComponents.get(i);
+                int layoutSlot = this.layoutSlots.getInt(i);
+
+                component.position(MenuComponent.toX(layoutSlot), MenuComponent.toY(layoutSlot));
+                indexSlots(index, component);
+            }
+
+            // Assigned last, as positioning the components invalidates the index
+            this.slotIndex = index;
+        }
+
+        return slot >= 0 && slot < index.length ? index[slot] : null;
+    }
+
+    /**
+     * Changes the current page and marks this paginator as dirty.
+     *
+     * @param page the new page index
+     */
+    private void changePage(int page) {
+        this.page = page;
+        this.invalidateCache();
+        this.markPagesDirty();
+    }
+
+    /**
+     * Marks this paginator as dirty after its pages changed, along with its
+     * navigation buttons as their items depend on the current page and the page count.
+     */
+    private void markPagesDirty() {
+        this.markDirty();
+        this.navigationButtons.forEach(MenuComponent::markDirty);
+    }
+
+    /**
+     * Registers a navigation button created by this paginator, so it is
+     * rendered again when the page changes.
+     *
+     * @param button the navigation button
+     * @return the navigation button
+     */
+    private Button navigationButton(Button button) {
+        this.navigationButtons.add(button);
+        return button;
     }
 
     /**
@@ -252,7 +616,7 @@ public class Paginator extends MenuComponent {
      * @return a Button for going to the previous page
      */
     public Button backButton() {
-        return Button.create()
+        return this.navigationButton(Button.create()
                 .item(context -> {
                     if (this.page > 0)
                         return this.backItem.apply(context);
@@ -266,10 +630,9 @@ public class Paginator extends MenuComponent {
                     if (this.page <= 0)
                         return;
 
-                    this.page--;
-                    this.render(event.context());
+                    this.changePage(this.page - 1);
                 })
-                .build();
+                .build());
     }
 
     /**
@@ -281,7 +644,7 @@ public class Paginator extends MenuComponent {
      * @return a Button for going to the next page
      */
     public Button nextButton() {
-        return Button.create()
+        return this.navigationButton(Button.create()
                 .item(context -> {
                     if (this.page < this.maxPage())
                         return this.nextItem.apply(context);
@@ -295,10 +658,9 @@ public class Paginator extends MenuComponent {
                     if (this.page >= this.maxPage())
                         return;
 
-                    this.page++;
-                    this.render(event.context());
+                    this.changePage(this.page + 1);
                 })
-                .build();
+                .build());
     }
 
     /**
@@ -310,7 +672,7 @@ public class Paginator extends MenuComponent {
      * @return a Button for going to the first page
      */
     public Button firstPageButton() {
-        return Button.create()
+        return this.navigationButton(Button.create()
                 .item(context -> {
                     if (this.page > 0 && this.firstPageItem != null)
                         return this.firstPageItem.apply(context);
@@ -324,10 +686,9 @@ public class Paginator extends MenuComponent {
                     if (this.page <= 0)
                         return;
 
-                    this.page = 0;
-                    this.render(event.context());
+                    this.changePage(0);
                 })
-                .build();
+                .build());
     }
 
     /**
@@ -339,7 +700,7 @@ public class Paginator extends MenuComponent {
      * @return a Button for going to the last page
      */
     public Button lastPageButton() {
-        return Button.create()
+        return this.navigationButton(Button.create()
                 .item(context -> {
                     if (this.page < this.maxPage() && this.lastPageItem != null)
                         return this.lastPageItem.apply(context);
@@ -354,10 +715,9 @@ public class Paginator extends MenuComponent {
                     if (this.page >= maxPage)
                         return;
 
-                    this.page = maxPage;
-                    this.render(event.context());
+                    this.changePage(maxPage);
                 })
-                .build();
+                .build());
     }
 
     /**
@@ -367,7 +727,7 @@ public class Paginator extends MenuComponent {
      */
     public int maxPage() {
         int maxItemsPerPage = this.width * this.height;
-        int totalItems = this.components.size();
+        int totalItems = this.totalItems();
         return (int) Math.ceil((double) totalItems / maxItemsPerPage) - 1;
     }
 
@@ -383,14 +743,17 @@ public class Paginator extends MenuComponent {
     public Paginator add(MenuContext context, MenuComponent component) {
         Preconditions.checkNotNull(context, "context cannot be null");
         Preconditions.checkNotNull(component, "component cannot be null");
+        Preconditions.checkState(this.source == null, "Cannot modify the components of a paginator backed by a source");
 
         this.components.add(component);
+        this.attach(component);
         component.onAdd(context);
         String addedID = component.id();
         if (addedID != null)
             context.menu().registerComponentID(addedID, component);
 
         this.invalidateCache();
+        this.markPagesDirty();
         return this;
     }
 
@@ -425,24 +788,11 @@ public class Paginator extends MenuComponent {
         Preconditions.checkNotNull(context, "context cannot be null");
         Preconditions.checkArgument(slot >= 0, "slot cannot be less than 0: %s", slot);
 
-        ObjectList<MenuComponent> pageComponents = this.currentPageComponents();
-        for (int i = 0; i < pageComponents.size(); i++) {
-            if (i >= this.layoutSlots.size())
-                break;
-
-            MenuComponent component = pageComponents.get(i);
-            int targetSlot = this.layoutSlots.getInt(i);
-
-            // Temporarily position to check slots
-            component.position(MenuComponent.toX(targetSlot), MenuComponent.toY(targetSlot));
-
-            if (!component.slots(context).contains(slot))
-                continue;
-
-            return this.remove(context, component);
-        }
+        MenuComponent component = this.componentAt(slot);
+        if (component == null)
+            return this;
 
-        return this;
+        return this.remove(context, component);
     }
 
     /**
@@ -457,13 +807,16 @@ public class Paginator extends MenuComponent {
     public Paginator remove(MenuContext context, MenuComponent component) {
         Preconditions.checkNotNull(context, "context cannot be null");
         Preconditions.checkNotNull(component, "component cannot be null");
+        Preconditions.checkState(this.source == null, "Cannot modify the components of a paginator backed by a source");
 
         component.onRemove(context);
         this.components.remove(component);
+        this.detach(component);
         String removedID = component.id();
         if (removedID != null)
             context.menu().unregisterComponentID(removedID);
         this.invalidateCache();
+        this.markPagesDirty();
         return this;
     }
 
@@ -479,6 +832,7 @@ public class Paginator extends MenuComponent {
     public Paginator removeAll(MenuContext context, IntSet indexes) {
         Preconditions.checkNotNull(context, "context cannot be null");
         Preconditions.checkNotNull(indexes, "indexes cannot be null");
+        Preconditions.checkState(this.source == null, "Cannot modify the components of a paginator backed by a source");
 
         int[] sorted = indexes.toIntArray();
         Arrays.sort(sorted);
@@ -518,7 +872,34 @@ public class Paginator extends MenuComponent {
      */
     @Contract(value = "-> this", mutates = "this")
     public Paginator clear() {
+        Preconditions.checkState(this.source == null, "Cannot modify the components of a paginator backed by a source");
+
+        this.components.forEach(this::detach);
         this.components.clear();
+        this.invalidateCache();
+        this.markPagesDirty();
+        return this;
+    }
+
+    /**
+     * Discards the loaded pages of the source and fetches its total count again,
+     * the displayed pages are fetched again on the next render once it is known.
+     * <p>
+     * Call this method after the data behind the source changed.
+     *
+     * @param context the menu context
+     * @return this paginator for method chaining
+     * @throws NullPointerException  if context is null
+     * @throws IllegalStateException if this paginator has no source
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public Paginator refresh(MenuContext context) {
+        Preconditions.checkNotNull(context, "context cannot be null");
+        Preconditions.checkState(this.source != null, "Cannot refresh a paginator without a source");
+
+        this.unloadSource(context);
+        this.markPagesDirty();
+        this.loadSize(context, this.source);
         return this;
     }
 
@@ -773,7 +1154,7 @@ public class Paginator extends MenuComponent {
     public Paginator page(@NonNegative int page) {
         Preconditions.checkArgument(page >= 0, "page cannot be less than 0: %s", page);
 
-        this.page = page;
+        this.changePage(page);
         return this;
     }
 
@@ -793,6 +1174,10 @@ public class Paginator extends MenuComponent {
 
         private int page;
 
+        @Nullable
+        private PaginatorSource source;
+        private boolean prefetch;
+
         /**
          * Adds a component to the paginator.
          *
@@ -1079,6 +1464,34 @@ public class Paginator extends MenuComponent {
             return this;
         }
 
+        /**
+         * Sets the source providing the components page by page, instead of adding them.
+         *
+         * @param source the source of the components
+         * @return this builder for method chaining
+         * @throws NullPointerException if source is null
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        public Builder source(PaginatorSource source) {
+            Preconditions.checkNotNull(source, "source cannot be null");
+
+            this.source = source;
+            return this;
+        }
+
+        /**
+         * Sets whether the pages next to the current page are fetched from the
+         * source and kept loaded, so flipping pages does not wait for a fetch.
+         *
+         * @param prefetch true to prefetch the neighbouring pages, false otherwise
+         * @return this builder for method chaining
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        public Builder prefetch(boolean prefetch) {
+            this.prefetch = prefetch;
+            return this;
+        }
+
         /**
          * Builds and returns the configured Paginator instance.
          *
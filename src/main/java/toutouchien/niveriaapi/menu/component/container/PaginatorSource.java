@@ -0,0 +1,126 @@
+package toutouchien.niveriaapi.menu.component.container;
+
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import toutouchien.niveriaapi.menu.MenuContext;
+import toutouchien.niveriaapi.menu.component.MenuComponent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Provides the content of a {@link Paginator} page by page, so that only the
+ * components of the displayed pages are created.
+ * <p>
+ * The paginator fetches the total number of components to compute its page
+ * count when it is added to a menu or refreshed, then fetches the components
+ * of a page when it is displayed. Both can be fetched asynchronously, the
+ * paginator displays them once they are loaded.
+ */
+@NullMarked
+public interface PaginatorSource {
+    /**
+     * Fetches the total number of components across all pages.
+     * <p>
+     * The returned future may complete on any thread. The page count of the
+     * paginator is updated on the thread of the menu's player.
+     *
+     * @param context the menu context
+     * @return a future completed with the number of components
+     */
+    CompletableFuture<Integer> size(MenuContext context);
+
+    /**
+     * Fetches the components of a page.
+     * <p>
+     * The returned future may complete on any thread. The components are
+     * added to the paginator on the thread of the menu's player.
+     *
+     * @param context the menu context
+     * @param offset  the index of the first component of the page
+     * @param limit   the maximum number of components to return
+     * @return a future completed with the components of the page, in display order
+     */
+    CompletableFuture<ObjectList<MenuComponent>> page(MenuContext context, @NonNegative int offset, @NonNegative int limit);
+
+    /**
+     * Creates a source fetching pages synchronously.
+     *
+     * @param size   function returning the total number of components
+     * @param loader function creating the components of a page
+     * @return a new paginator source
+     * @throws NullPointerException if size or loader is null
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    static PaginatorSource sync(ToIntFunction<MenuContext> size, PageLoader loader) {
+        Preconditions.checkNotNull(size, "size cannot be null");
+        Preconditions.checkNotNull(loader, "loader cannot be null");
+
+        return async(
+                context -> CompletableFuture.completedFuture(size.applyAsInt(context)),
+                (context, offset, limit) -> CompletableFuture.completedFuture(loader.load(context, offset, limit))
+        );
+    }
+
+    /**
+     * Creates a source fetching its size and pages asynchronously.
+     *
+     * @param size   function returning a future of the total number of components
+     * @param loader function returning a future of the components of a page
+     * @return a new paginator source
+     * @throws NullPointerException if size or loader is null
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    static PaginatorSource async(Function<MenuContext, CompletableFuture<Integer>> size, AsyncPageLoader loader) {
+        Preconditions.checkNotNull(size, "size cannot be null");
+        Preconditions.checkNotNull(loader, "loader cannot be null");
+
+        return new PaginatorSource() {
+            @Override
+            public CompletableFuture<Integer> size(MenuContext context) {
+                return size.apply(context);
+            }
+
+            @Override
+            public CompletableFuture<ObjectList<MenuComponent>> page(MenuContext context, int offset, int limit) {
+                return loader.load(context, offset, limit);
+            }
+        };
+    }
+
+    /**
+     * Creates the components of a page synchronously.
+     */
+    @FunctionalInterface
+    interface PageLoader {
+        /**
+         * Creates the components of a page.
+         *
+         * @param context the menu context
+         * @param offset  the index of the first component of the page
+         * @param limit   the maximum number of components to return
+         * @return the components of the page, in display order
+         */
+        ObjectList<MenuComponent> load(MenuContext context, @NonNegative int offset, @NonNegative int limit);
+    }
+
+    /**
+     * Fetches the components of a page asynchronously.
+     */
+    @FunctionalInterface
+    interface AsyncPageLoader {
+        /**
+         * Fetches the components of a page.
+         *
+         * @param context the menu context
+         * @param offset  the index of the first component of the page
+         * @param limit   the maximum number of components to return
+         * @return a future completed with the components of the page, in display order
+         */
+        CompletableFuture<ObjectList<MenuComponent>> load(MenuContext context, @NonNegative int offset, @NonNegative int limit);
+    }
+}
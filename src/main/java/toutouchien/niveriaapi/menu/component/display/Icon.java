@@ -84,6 +84,20 @@ public class Icon extends MenuComponent {
         return this.items(context, this.item.apply(context));
     }
 
+    /**
+     * Renders this icon into a frame.
+     * <p>
+     * The icon fills all slots within its widthxheight area with the
+     * same ItemStack.
+     *
+     * @param context the menu context
+     * @param frame   the frame to write the items to, indexed by slot
+     */
+    @Override
+    public void renderInto(MenuContext context, @Nullable ItemStack[] frame) {
+        this.fill(frame, this.item.apply(context));
+    }
+
     /**
      * Sets the ItemStack to display for this icon.
      *
@@ -96,6 +110,7 @@ public class Icon extends MenuComponent {
         Preconditions.checkNotNull(item, "item cannot be null");
 
         this.item = context -> item;
+        this.markDirty();
         return this;
     }
 
@@ -111,6 +126,7 @@ public class Icon extends MenuComponent {
         Preconditions.checkNotNull(item, "item cannot be null");
 
         this.item = item;
+        this.markDirty();
         return this;
     }
 
@@ -10,6 +10,7 @@ import org.bukkit.inventory.ItemStack;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.jetbrains.annotations.Contract;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import toutouchien.niveriaapi.menu.MenuContext;
 import toutouchien.niveriaapi.menu.component.MenuComponent;
 import toutouchien.niveriaapi.utils.Direction;
@@ -97,6 +98,37 @@ public class ProgressBar extends MenuComponent {
         return items;
     }
 
+    /**
+     * Renders this progress bar into a frame.
+     * <p>
+     * Each of the "done", "current" and "not done" items is computed once,
+     * then written to the slots following the same rules as {@link #items(MenuContext)}.
+     *
+     * @param context the menu context
+     * @param frame   the frame to write the items to, indexed by slot
+     */
+    @Override
+    public void renderInto(MenuContext context, @Nullable ItemStack[] frame) {
+        double pct = Math.clamp(this.percentage.applyAsDouble(context), 0, 1);
+
+        int total = this.width * this.height;
+        int done = (int) Math.floor(pct * total);
+        boolean full = pct >= 1d || done >= total;
+
+        @Nullable ItemStack doneItem = done > 0 ? this.doneItem.apply(context) : null;
+        @Nullable ItemStack currentItem = !full ? this.currentItem.apply(context) : null;
+        @Nullable ItemStack notDoneItem = done + 1 < total ? this.notDoneItem.apply(context) : null;
+
+        this.forEachSlot((idx, slot) -> {
+            if (idx < done)
+                frame[slot] = doneItem;
+            else if (!full && idx == done)
+                frame[slot] = currentItem;
+            else
+                frame[slot] = notDoneItem;
+        });
+    }
+
     /**
      * Iterates through each slot in the progress bar according to the specified direction.
      * <p>
@@ -156,6 +188,7 @@ public class ProgressBar extends MenuComponent {
         Preconditions.checkNotNull(doneItem, "doneItem cannot be null");
 
         this.doneItem = context -> doneItem;
+        this.markDirty();
         return this;
     }
 
@@ -171,6 +204,7 @@ public class ProgressBar extends MenuComponent {
         Preconditions.checkNotNull(currentItem, "currentItem cannot be null");
 
         this.currentItem = context -> currentItem;
+        this.markDirty();
         return this;
     }
 
@@ -186,6 +220,7 @@ public class ProgressBar extends MenuComponent {
         Preconditions.checkNotNull(notDoneItem, "notDoneItem cannot be null");
 
         this.notDoneItem = context -> notDoneItem;
+        this.markDirty();
         return this;
     }
 
@@ -201,6 +236,7 @@ public class ProgressBar extends MenuComponent {
         Preconditions.checkNotNull(doneItem, "doneItem cannot be null");
 
         this.doneItem = doneItem;
+        this.markDirty();
         return this;
     }
 
@@ -216,6 +252,7 @@ public class ProgressBar extends MenuComponent {
         Preconditions.checkNotNull(currentItem, "currentItem cannot be null");
 
         this.currentItem = currentItem;
+        this.markDirty();
         return this;
     }
 
@@ -231,6 +268,7 @@ public class ProgressBar extends MenuComponent {
         Preconditions.checkNotNull(notDoneItem, "notDoneItem cannot be null");
 
         this.notDoneItem = notDoneItem;
+        this.markDirty();
         return this;
     }
 
@@ -246,6 +284,7 @@ public class ProgressBar extends MenuComponent {
         Preconditions.checkArgument(percentage >= 0, "percentage cannot be negative: %s", percentage);
 
         this.percentage = context -> percentage;
+        this.markDirty();
         return this;
     }
 
@@ -261,6 +300,7 @@ public class ProgressBar extends MenuComponent {
         Preconditions.checkNotNull(percentage, "percentage cannot be null");
 
         this.percentage = percentage;
+        this.markDirty();
         return this;
     }
 
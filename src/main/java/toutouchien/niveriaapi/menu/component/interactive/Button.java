@@ -170,6 +170,20 @@ public class Button extends MenuComponent {
         return this.items(context, this.getCurrentItem(context));
     }
 
+    /**
+     * Renders this button into a frame.
+     * <p>
+     * The button fills all slots within its widthxheight area with the
+     * current item (static, animated, or dynamic).
+     *
+     * @param context the menu context
+     * @param frame   the frame to write the items to, indexed by slot
+     */
+    @Override
+    public void renderInto(MenuContext context, @Nullable ItemStack[] frame) {
+        this.fill(frame, this.getCurrentItem(context));
+    }
+
     /**
      * Starts the animation task that cycles through animation frames.
      *
@@ -268,6 +282,7 @@ public class Button extends MenuComponent {
         Preconditions.checkNotNull(item, "item cannot be null");
 
         this.item = context -> item;
+        this.markDirty();
         return this;
     }
 
@@ -283,6 +298,7 @@ public class Button extends MenuComponent {
         Preconditions.checkNotNull(item, "item cannot be null");
 
         this.item = item;
+        this.markDirty();
         return this;
     }
 
@@ -370,6 +386,7 @@ public class Button extends MenuComponent {
         Preconditions.checkNotNull(animationFrames, "animationFrames cannot be null");
 
         this.animationFrames = animationFrames;
+        this.markDirty();
         return this;
     }
 
@@ -175,6 +175,20 @@ public class DoubleDropButton extends MenuComponent {
         return this.items(context, this.getCurrentItem(context));
     }
 
+    /**
+     * Renders this double drop button into a frame.
+     * <p>
+     * The double drop button fills all slots within its widthxheight area with the
+     * current item (normal or drop state).
+     *
+     * @param context the menu context
+     * @param frame   the frame to write the items to, indexed by slot
+     */
+    @Override
+    public void renderInto(MenuContext context, @Nullable ItemStack[] frame) {
+        this.fill(frame, this.getCurrentItem(context));
+    }
+
     /**
      * Sets the ItemStack to display in normal state.
      *
@@ -187,6 +201,7 @@ public class DoubleDropButton extends MenuComponent {
         Preconditions.checkNotNull(item, "item cannot be null");
 
         this.item = context -> item;
+        this.markDirty();
         return this;
     }
 
@@ -202,6 +217,7 @@ public class DoubleDropButton extends MenuComponent {
         Preconditions.checkNotNull(dropItem, "dropItem cannot be null");
 
         this.dropItem = context -> dropItem;
+        this.markDirty();
         return this;
     }
 
@@ -217,6 +233,7 @@ public class DoubleDropButton extends MenuComponent {
         Preconditions.checkNotNull(item, "item cannot be null");
 
         this.item = item;
+        this.markDirty();
         return this;
     }
 
@@ -232,6 +249,7 @@ public class DoubleDropButton extends MenuComponent {
         Preconditions.checkNotNull(dropItem, "dropItem cannot be null");
 
         this.dropItem = dropItem;
+        this.markDirty();
         return this;
     }
 
@@ -146,6 +146,20 @@ public class Selector<T> extends MenuComponent {
         return this.items(context, this.getCurrentItem(context));
     }
 
+    /**
+     * Renders this selector into a frame.
+     * <p>
+     * The selector fills all slots within its widthxheight area with the
+     * current selection's item.
+     *
+     * @param context the menu context
+     * @param frame   the frame to write the items to, indexed by slot
+     */
+    @Override
+    public void renderInto(MenuContext context, @Nullable ItemStack[] frame) {
+        this.fill(frame, this.getCurrentItem(context));
+    }
+
     /**
      * Sets the current selection to the option with the specified value.
      *
@@ -192,6 +206,7 @@ public class Selector<T> extends MenuComponent {
         Preconditions.checkNotNull(item, "item cannot be null");
 
         this.options.add(new Option<>(context -> item, value));
+        this.markDirty();
         return this;
     }
 
@@ -208,6 +223,7 @@ public class Selector<T> extends MenuComponent {
         Preconditions.checkNotNull(item, "item cannot be null");
 
         this.options.add(new Option<>(item, value));
+        this.markDirty();
         return this;
     }
 
@@ -240,6 +256,7 @@ public class Selector<T> extends MenuComponent {
         else if (this.currentIndex >= this.options.size())
             this.currentIndex = Math.max(0, this.options.size() - 1);
 
+        this.markDirty();
         return this;
     }
 
@@ -270,6 +287,7 @@ public class Selector<T> extends MenuComponent {
         Preconditions.checkNotNull(defaultOption, "defaultOption cannot be null");
 
         this.defaultOption = defaultOption;
+        this.markDirty();
         return this;
     }
 
@@ -102,6 +102,20 @@ public class Toggle extends MenuComponent {
         return this.items(context, this.getCurrentItem(context));
     }
 
+    /**
+     * Renders this toggle into a frame.
+     * <p>
+     * The toggle fills all slots within its widthxheight area with the
+     * current state item (on or off).
+     *
+     * @param context the menu context
+     * @param frame   the frame to write the items to, indexed by slot
+     */
+    @Override
+    public void renderInto(MenuContext context, @Nullable ItemStack[] frame) {
+        this.fill(frame, this.getCurrentItem(context));
+    }
+
     /**
      * Gets the ItemStack to display based on the current toggle state.
      *
@@ -124,6 +138,7 @@ public class Toggle extends MenuComponent {
         Preconditions.checkNotNull(onItem, "onItem cannot be null");
 
         this.onItem = context -> onItem;
+        this.markDirty();
         return this;
     }
 
@@ -139,6 +154,7 @@ public class Toggle extends MenuComponent {
         Preconditions.checkNotNull(offItem, "offItem cannot be null");
 
         this.offItem = context -> offItem;
+        this.markDirty();
         return this;
     }
 
@@ -154,6 +170,7 @@ public class Toggle extends MenuComponent {
         Preconditions.checkNotNull(onItem, "onItem cannot be null");
 
         this.onItem = onItem;
+        this.markDirty();
         return this;
     }
 
@@ -169,6 +186,7 @@ public class Toggle extends MenuComponent {
         Preconditions.checkNotNull(offItem, "offItem cannot be null");
 
         this.offItem = offItem;
+        this.markDirty();
         return this;
     }
 
@@ -208,6 +226,7 @@ public class Toggle extends MenuComponent {
     @Contract(value = "_ -> this", mutates = "this")
     public Toggle currentState(boolean state) {
         this.currentState = state;
+        this.markDirty();
         return this;
     }
 
@@ -29,6 +29,8 @@ public class Grid extends MenuComponent {
     @Nullable private final ItemStack border;
     @Nullable private final ItemStack fill;
 
+    private @Nullable MenuComponent @Nullable [] slotIndex;
+
     /**
      * Constructs a new Grid with the specified configuration.
      *
@@ -37,6 +39,7 @@ public class Grid extends MenuComponent {
     private Grid(Builder builder) {
         super(builder);
         this.slotComponents = new ObjectArrayList<>(builder.slotComponents);
+        this.slotComponents.forEach(this::attach);
 
         this.border = builder.border;
         this.fill = builder.fill;
@@ -91,8 +94,8 @@ public class Grid extends MenuComponent {
     /**
      * Handles click events within this grid.
      * <p>
-     * Delegates click events to the appropriate child component based on
-     * which slots the component occupies. Only processes clicks if the grid
+     * Delegates click events to the child component displayed in the clicked
+     * slot, found with a slot index. Only processes clicks if the grid
      * is interactable.
      *
      * @param event   the inventory click event
@@ -105,12 +108,9 @@ public class Grid extends MenuComponent {
 
         event.component(this);
 
-        for (MenuComponent component : this.slotComponents) {
-            if (component.slots(context).contains(event.getSlot())) {
-                component.onClick(event, context);
-                break;
-            }
-        }
+        MenuComponent component = this.componentAt(event.getSlot());
+        if (component != null)
+            component.onClick(event, context);
     }
 
     /**
@@ -149,6 +149,71 @@ public class Grid extends MenuComponent {
         return items;
     }
 
+    /**
+     * Renders this grid into a frame.
+     * <p>
+     * The grid area is first filled with the border and fill items, then
+     * every visible child component renders over it.
+     *
+     * @param context the menu context
+     * @param frame   the frame to write the items to, indexed by slot
+     */
+    @Override
+    public void renderInto(MenuContext context, @Nullable ItemStack[] frame) {
+        for (int y = 0; y < this.height; y++) {
+            for (int x = 0; x < this.width; x++) {
+                int slot = toSlot(x + this.x(), y + this.y());
+                frame[slot] = this.border != null && this.border(x + this.x(), y + this.y()) ? this.border : this.fill;
+            }
+        }
+
+        for (MenuComponent slotComponent : this.slotComponents) {
+            if (slotComponent.visible())
+                slotComponent.renderInto(context, frame);
+        }
+    }
+
+    /**
+     * Returns the child components of this grid.
+     *
+     * @return the child components
+     */
+    @Override
+    protected ObjectList<MenuComponent> children() {
+        return this.slotComponents;
+    }
+
+    /**
+     * Invalidates the slot index after a child component moved or changed visibility.
+     */
+    @Override
+    protected void childLayoutChanged() {
+        this.slotIndex = null;
+    }
+
+    /**
+     * Returns the child component displayed in a slot.
+     * <p>
+     * The slot index is built on the first lookup after the layout changed.
+     * When children overlap, the first added one is returned.
+     *
+     * @param slot the slot index
+     * @return the child component in the slot, or null if there is none
+     */
+    @Nullable
+    private MenuComponent componentAt(int slot) {
+        @Nullable MenuComponent[] index = this.slotIndex;
+        if (index == null) {
+            index = new MenuComponent[(this.y() + this.height) * 9];
+            for (MenuComponent slotComponent : this.slotComponents)
+                indexSlots(index, slotComponent);
+
+            this.slotIndex = index;
+        }
+
+        return slot >= 0 && slot < index.length ? index[slot] : null;
+    }
+
     /**
      * Determines if the specified coordinates represent a border position.
      *
@@ -0,0 +1,138 @@
+package toutouchien.niveriaapi.cooldown;
+
+import net.kyori.adventure.key.Key;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CooldownStoreTest {
+    private static final Key DASH = Key.key("niveria", "dash");
+    private static final Key HEAL = Key.key("niveria", "heal");
+    private static final Key KIT = Key.key("kits", "starter");
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private CooldownStore store;
+
+    @BeforeEach
+    void setUp() {
+        this.store = new CooldownStore();
+    }
+
+    @Test
+    @DisplayName("Expiring only removes the cooldowns that expired, in expiration order")
+    void expire_shouldRemoveExpiredCooldownsInOrder() {
+        Cooldown late = this.put(this.alice, DASH, 300);
+        Cooldown early = this.put(this.bob, DASH, 100);
+        Cooldown kept = this.put(this.alice, HEAL, 1000);
+
+        assertEquals(List.of(early, late), this.store.expire(500));
+
+        assertNull(this.store.get(this.alice, DASH));
+        assertSame(kept, this.store.get(this.alice, HEAL));
+        assertEquals(1, this.store.size());
+        assertTrue(this.store.expire(500).isEmpty());
+    }
+
+    @Test
+    @DisplayName("A replaced cooldown does not expire with the expiration of the one it replaced")
+    void expire_shouldSkipReplacedCooldowns() {
+        this.put(this.alice, DASH, 100);
+        Cooldown replacement = this.put(this.alice, DASH, 1000);
+
+        assertTrue(this.store.expire(500).isEmpty());
+        assertSame(replacement, this.store.get(this.alice, DASH));
+        assertEquals(1, this.store.size());
+
+        assertEquals(List.of(replacement), this.store.expire(1000));
+        assertEquals(0, this.store.size());
+    }
+
+    @Test
+    @DisplayName("A removed cooldown is not returned again when its expiration passes")
+    void expire_shouldSkipRemovedCooldowns() {
+        Cooldown cooldown = this.put(this.alice, DASH, 100);
+
+        assertSame(cooldown, this.store.remove(this.alice, DASH));
+        assertTrue(this.store.expire(500).isEmpty());
+        assertEquals(0, this.store.size());
+    }
+
+    @Test
+    @DisplayName("putIfAbsent keeps the stored cooldown")
+    void putIfAbsent_shouldKeepStoredCooldown() {
+        Cooldown stored = this.put(this.alice, DASH, 100);
+
+        assertFalse(this.store.putIfAbsent(new Cooldown(this.alice, DASH, 1000, false)));
+        assertSame(stored, this.store.get(this.alice, DASH));
+        assertTrue(this.store.putIfAbsent(new Cooldown(this.bob, DASH, 1000, false)));
+        assertEquals(2, this.store.size());
+    }
+
+    @Test
+    @DisplayName("Removing the cooldowns of a UUID only removes the ones matching the filter")
+    void removeAll_shouldRemoveMatchingCooldownsOfUuid() {
+        Cooldown dash = this.put(this.alice, DASH, 100);
+        Cooldown heal = this.put(this.alice, HEAL, 1000);
+        Cooldown otherDash = this.put(this.bob, DASH, 100);
+
+        assertEquals(List.of(dash), this.store.removeAll(this.alice, cooldown -> cooldown.expirationTime() < 500));
+        assertSame(heal, this.store.get(this.alice, HEAL));
+        assertSame(otherDash, this.store.get(this.bob, DASH));
+
+        assertEquals(List.of(heal), this.store.removeAll(this.alice, cooldown -> true));
+        assertTrue(this.store.removeAll(this.alice, cooldown -> true).isEmpty());
+        assertEquals(1, this.store.size());
+    }
+
+    @Test
+    @DisplayName("Removing by key removes the cooldowns of every UUID with that key")
+    void removeAllByKey_shouldRemoveEveryUuid() {
+        this.put(this.alice, DASH, 100);
+        this.put(this.bob, DASH, 100);
+        Cooldown heal = this.put(this.alice, HEAL, 100);
+
+        assertEquals(2, this.store.removeAllByKey(DASH).size());
+        assertNull(this.store.get(this.bob, DASH));
+        assertSame(heal, this.store.get(this.alice, HEAL));
+        assertEquals(List.of(heal), this.store.removeAll(this.alice, cooldown -> true));
+    }
+
+    @Test
+    @DisplayName("Removing by namespace only removes the keys of that namespace")
+    void removeAllByNamespace_shouldRemoveKeysOfNamespace() {
+        this.put(this.alice, DASH, 100);
+        this.put(this.bob, HEAL, 100);
+        Cooldown kit = this.put(this.alice, KIT, 100);
+
+        assertEquals(2, this.store.removeAllByNamespace("niveria").size());
+        assertSame(kit, this.store.get(this.alice, KIT));
+        assertEquals(1, this.store.size());
+        assertTrue(this.store.removeAllByNamespace("niveria").isEmpty());
+
+        this.put(this.bob, DASH, 100);
+        assertEquals(1, this.store.removeAllByNamespace("niveria").size());
+    }
+
+    @Test
+    @DisplayName("The expiration heap is compacted without losing live cooldowns")
+    void put_shouldCompactExpirationHeap() {
+        for (int i = 0; i < 3000; i++)
+            this.put(this.alice, DASH, i);
+
+        assertEquals(1, this.store.size());
+        assertTrue(this.store.expire(2998).isEmpty());
+        assertEquals(1, this.store.expire(2999).size());
+    }
+
+    private Cooldown put(UUID uuid, Key key, long expirationTime) {
+        Cooldown cooldown = new Cooldown(uuid, key, expirationTime, false);
+        this.store.put(cooldown);
+        return cooldown;
+    }
+}
@@ -0,0 +1,114 @@
+package toutouchien.niveriaapi.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.helpers.NOPLogger;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseExecutorTest {
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private DatabaseExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        this.release.countDown();
+        if (this.executor != null)
+            this.executor.shutdown(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("A task submitted while the queue is full is rejected with ABORT")
+    void execute_shouldRejectWhenQueueIsFull() throws InterruptedException {
+        this.saturate(DatabaseExecutor.RejectionPolicy.ABORT);
+
+        assertThrows(RejectedExecutionException.class, () -> this.executor.execute(() -> {}));
+        assertFalse(this.executor.tryExecute(() -> {}));
+
+        DatabaseExecutor.Metrics metrics = this.executor.metrics();
+        assertEquals(2, metrics.rejectedTasks());
+        assertEquals(0, metrics.callerRunsTasks());
+        assertEquals(2, metrics.submittedTasks());
+        assertEquals(1, metrics.queueDepth());
+    }
+
+    @Test
+    @DisplayName("A task submitted while the queue is full runs on the caller with CALLER_RUNS, without counting as rejected")
+    void execute_shouldRunOnCallerWhenQueueIsFull() throws InterruptedException {
+        this.saturate(DatabaseExecutor.RejectionPolicy.CALLER_RUNS);
+
+        AtomicReference<Thread> runner = new AtomicReference<>();
+        assertTrue(this.executor.tryExecute(() -> runner.set(Thread.currentThread())));
+
+        assertSame(Thread.currentThread(), runner.get());
+        DatabaseExecutor.Metrics metrics = this.executor.metrics();
+        assertEquals(0, metrics.rejectedTasks());
+        assertEquals(1, metrics.callerRunsTasks());
+    }
+
+    @Test
+    @DisplayName("Shutting down runs the queued tasks and rejects new ones, even with CALLER_RUNS")
+    void shutdown_shouldFinishQueuedTasksAndRejectNewOnes() throws InterruptedException {
+        this.saturate(DatabaseExecutor.RejectionPolicy.CALLER_RUNS);
+
+        AtomicInteger ran = new AtomicInteger();
+        this.release.countDown();
+        assertTrue(this.executor.shutdown(Duration.ofSeconds(5)));
+        assertTrue(this.executor.isShutdown());
+
+        assertThrows(RejectedExecutionException.class, () -> this.executor.execute(ran::incrementAndGet));
+        assertEquals(0, ran.get());
+
+        DatabaseExecutor.Metrics metrics = this.executor.metrics();
+        assertEquals(2, metrics.completedTasks());
+        assertEquals(1, metrics.rejectedTasks());
+        assertEquals(0, metrics.callerRunsTasks());
+    }
+
+    @Test
+    @DisplayName("A task throwing an exception is counted as failed without stopping the worker")
+    void execute_shouldCountFailedTasks() throws InterruptedException {
+        this.executor = new DatabaseExecutor("test", new DatabaseExecutor.Settings(1, 1, DatabaseExecutor.RejectionPolicy.ABORT),
+                NOPLogger.NOP_LOGGER);
+
+        CountDownLatch done = new CountDownLatch(1);
+        this.executor.execute(() -> {
+            throw new IllegalStateException("Failure");
+        });
+        this.executor.execute(done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(this.executor.shutdown(Duration.ofSeconds(5)));
+        assertEquals(1, this.executor.metrics().failedTasks());
+        assertEquals(2, this.executor.metrics().completedTasks());
+    }
+
+    /**
+     * Creates a single-thread executor with a single queue slot, then blocks
+     * its worker until {@link #release} and fills its queue.
+     */
+    private void saturate(DatabaseExecutor.RejectionPolicy policy) throws InterruptedException {
+        this.executor = new DatabaseExecutor("test", new DatabaseExecutor.Settings(1, 1, policy), NOPLogger.NOP_LOGGER);
+
+        this.executor.execute(() -> {
+            this.started.countDown();
+            try {
+                this.release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(this.started.await(5, TimeUnit.SECONDS));
+
+        this.executor.execute(() -> {});
+    }
+}
@@ -0,0 +1,223 @@
+package toutouchien.niveriaapi.database;
+
+import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.helpers.NOPLogger;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentCacheTest {
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+
+    private Map<String, Document> database;
+    private AtomicLong nanos;
+    private boolean failing;
+    private int loads;
+    private DocumentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.database = new HashMap<>();
+        this.database.put("a", new Document("_id", "a").append("coins", 1));
+        this.nanos = new AtomicLong();
+        this.failing = false;
+        this.loads = 0;
+        this.cache = new DocumentCache("test", "test", this.collection(), NOPLogger.NOP_LOGGER,
+                Runnable::run, EXPIRE_AFTER_ACCESS, this.nanos::get);
+    }
+
+    @Test
+    @DisplayName("Writes are kept in memory until the cache is flushed")
+    void flushAll_shouldWriteBackDirtyDocuments() {
+        CachedDocument entry = this.load();
+        this.setCoins(entry, 5);
+
+        assertEquals(1, this.database.get("a").getInteger("coins"));
+
+        this.cache.flushAll();
+
+        assertEquals(5, this.database.get("a").getInteger("coins"));
+        assertFalse(entry.dirty());
+    }
+
+    @Test
+    @DisplayName("A document expiring while dirty is written back before it is loaded again")
+    void expiry_shouldWriteBackBeforeReload() {
+        this.setCoins(this.load(), 5);
+
+        this.nanos.addAndGet(EXPIRE_AFTER_ACCESS.plusSeconds(1).toNanos());
+        CachedDocument reloaded = this.load();
+
+        assertEquals(5, this.database.get("a").getInteger("coins"));
+        assertEquals(5, this.coins(reloaded));
+        assertEquals(2, this.loads);
+    }
+
+    @Test
+    @DisplayName("An evicted document is written back and removed from the cache")
+    void evict_shouldWriteBackAndRemove() {
+        this.setCoins(this.load(), 5);
+
+        this.cache.evict("a");
+
+        assertEquals(5, this.database.get("a").getInteger("coins"));
+        assertNull(this.cache.getIfPresent("a"));
+    }
+
+    @Test
+    @DisplayName("A document whose eviction failed stays cached with its changes")
+    void evict_shouldKeepDocumentWhenWriteFails() {
+        CachedDocument entry = this.load();
+        this.setCoins(entry, 5);
+
+        this.failing = true;
+        this.cache.evict("a");
+
+        assertSame(entry, this.cache.getIfPresent("a"));
+        assertTrue(entry.dirty());
+        assertFalse(entry.detached());
+    }
+
+    @Test
+    @DisplayName("A document whose write-back failed after expiring is not reloaded from the database")
+    void expiry_shouldKeepDocumentWhenWriteFails() {
+        CachedDocument entry = this.load();
+        this.setCoins(entry, 5);
+
+        this.failing = true;
+        this.nanos.addAndGet(EXPIRE_AFTER_ACCESS.plusSeconds(1).toNanos());
+        CachedDocument reloaded = this.load();
+
+        assertSame(entry, reloaded);
+        assertEquals(5, this.coins(reloaded));
+        assertEquals(1, this.loads);
+        assertTrue(reloaded.dirty());
+    }
+
+    @Test
+    @DisplayName("A failed write-back of a document that left the cache is retried by flushAll")
+    void flushAll_shouldRetryFailedWriteBacks() {
+        this.setCoins(this.load(), 5);
+
+        this.failing = true;
+        this.nanos.addAndGet(EXPIRE_AFTER_ACCESS.plusSeconds(1).toNanos());
+        this.cache.put("b", new Document("_id", "b"));
+        this.cache.flushAll();
+        assertEquals(1, this.database.get("a").getInteger("coins"));
+
+        this.failing = false;
+        this.cache.flushAll();
+        assertEquals(5, this.database.get("a").getInteger("coins"));
+    }
+
+    @Test
+    @DisplayName("A failed bulk write keeps the changes for the next flush")
+    void flushAll_shouldRestoreChangesWhenWriteFails() {
+        CachedDocument entry = this.load();
+        this.setCoins(entry, 5);
+
+        this.failing = true;
+        this.cache.flushAll();
+        assertTrue(entry.dirty());
+
+        this.failing = false;
+        this.cache.flushAll();
+        assertEquals(5, this.database.get("a").getInteger("coins"));
+        assertFalse(entry.dirty());
+    }
+
+    @Test
+    @DisplayName("Discarding a document drops its pending changes")
+    void discard_shouldDropPendingChanges() {
+        this.setCoins(this.load(), 5);
+
+        this.cache.discard("a");
+        this.cache.flushAll();
+
+        assertEquals(1, this.database.get("a").getInteger("coins"));
+        assertNull(this.cache.getIfPresent("a"));
+    }
+
+    private CachedDocument load() {
+        CachedDocument entry = this.cache.entry("a", id -> {
+            this.loads++;
+            Document document = this.database.get(id);
+            return document == null ? null : (Document) CachedDocument.copy(document);
+        });
+
+        assertNotNull(entry);
+        return entry;
+    }
+
+    private void setCoins(CachedDocument entry, int coins) {
+        assertTrue(entry.update(document -> {
+            document.put("coins", coins);
+            return true;
+        }, "coins"));
+    }
+
+    private int coins(CachedDocument entry) {
+        return entry.read(document -> document.getInteger("coins"));
+    }
+
+    /**
+     * Creates a collection applying the {@code $set} of updates to {@link #database},
+     * or throwing while {@link #failing} is set.
+     */
+    @SuppressWarnings("unchecked")
+    private MongoCollection<Document> collection() {
+        return (MongoCollection<Document>) Proxy.newProxyInstance(
+                MongoCollection.class.getClassLoader(),
+                new Class<?>[]{MongoCollection.class},
+                (proxy, method, args) -> {
+                    if (this.failing)
+                        throw new MongoException("Database unavailable");
+
+                    return switch (method.getName()) {
+                        case "updateOne" -> {
+                            this.update((Bson) args[0], (Document) args[1]);
+                            yield UpdateResult.acknowledged(1, 1L, null);
+                        }
+                        case "bulkWrite" -> {
+                            List<? extends WriteModel<Document>> models = (List<? extends WriteModel<Document>>) args[0];
+                            for (WriteModel<Document> model : models) {
+                                UpdateOneModel<Document> update = (UpdateOneModel<Document>) model;
+                                this.update(update.getFilter(), (Document) update.getUpdate());
+                            }
+
+                            yield BulkWriteResult.acknowledged(0, models.size(), 0, models.size(), List.of(), List.of());
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                }
+        );
+    }
+
+    private void update(Bson filter, @Nullable Document update) {
+        String id = filter.toBsonDocument().getString("_id").getValue();
+        Document document = this.database.get(id);
+        if (document == null || update == null)
+            return;
+
+        Document setValues = update.get("$set", Document.class);
+        if (setValues != null)
+            document.putAll(setValues);
+    }
+}
@@ -0,0 +1,93 @@
+package toutouchien.niveriaapi.database;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldUpdateTest {
+    @Nested
+    class Merge {
+        @Test
+        @DisplayName("A set or unset replaces any previous update")
+        void merge_shouldKeepLastSetOrUnset() {
+            assertEquals(FieldUpdate.set("b"), FieldUpdate.set("a").merge(FieldUpdate.set("b")));
+            assertEquals(FieldUpdate.set("b"), FieldUpdate.inc(5).merge(FieldUpdate.set("b")));
+            assertEquals(FieldUpdate.unset(), FieldUpdate.set("a").merge(FieldUpdate.unset()));
+            assertEquals(FieldUpdate.unset(), FieldUpdate.inc(5).merge(FieldUpdate.unset()));
+            assertEquals(FieldUpdate.set(1), FieldUpdate.unset().merge(FieldUpdate.set(1)));
+        }
+
+        @Test
+        @DisplayName("Increments are summed")
+        void merge_shouldSumIncrements() {
+            assertEquals(FieldUpdate.inc(7), FieldUpdate.inc(2).merge(FieldUpdate.inc(5)));
+            assertEquals(FieldUpdate.inc(-3), FieldUpdate.inc(2).merge(FieldUpdate.inc(-5)));
+        }
+
+        @Test
+        @DisplayName("An increment after a set sets the sum")
+        void merge_shouldFoldIncrementIntoSet() {
+            assertEquals(FieldUpdate.set(15), FieldUpdate.set(10).merge(FieldUpdate.inc(5)));
+            assertEquals(FieldUpdate.set(10.5), FieldUpdate.set(10).merge(FieldUpdate.inc(0.5)));
+        }
+
+        @Test
+        @DisplayName("An increment after an unset sets the amount, like $inc on a missing field")
+        void merge_shouldTurnIncrementAfterUnsetIntoSet() {
+            assertEquals(FieldUpdate.set(5), FieldUpdate.unset().merge(FieldUpdate.inc(5)));
+        }
+
+        @Test
+        @DisplayName("An increment cannot be folded into a set of a non-number")
+        void merge_shouldRejectIncrementAfterNonNumericSet() {
+            FieldUpdate set = FieldUpdate.set("text");
+            FieldUpdate inc = FieldUpdate.inc(1);
+
+            assertFalse(set.canMerge(inc));
+            assertFalse(FieldUpdate.set(null).canMerge(inc));
+            assertThrows(IllegalArgumentException.class, () -> set.merge(inc));
+        }
+
+        @Test
+        @DisplayName("Any update can follow a set, unset or increment")
+        void canMerge_shouldAcceptEverythingElse() {
+            FieldUpdate[] updates = {FieldUpdate.set(1), FieldUpdate.unset(), FieldUpdate.inc(1)};
+            for (FieldUpdate first : updates) {
+                assertTrue(first.canMerge(FieldUpdate.set("a")));
+                assertTrue(first.canMerge(FieldUpdate.unset()));
+                assertTrue(first.canMerge(FieldUpdate.inc(1)));
+            }
+        }
+    }
+
+    @Nested
+    class Add {
+        @Test
+        @DisplayName("Two ints give an int")
+        void add_shouldKeepInts() {
+            assertEquals(5, FieldUpdate.add(2, 3));
+        }
+
+        @Test
+        @DisplayName("Two ints overflowing give a long")
+        void add_shouldWidenOverflowingIntsToLong() {
+            assertEquals((long) Integer.MAX_VALUE + 1, FieldUpdate.add(Integer.MAX_VALUE, 1));
+        }
+
+        @Test
+        @DisplayName("A long operand gives a long")
+        void add_shouldWidenToLong() {
+            assertEquals(5L, FieldUpdate.add(2, 3L));
+            assertEquals(5L, FieldUpdate.add(2L, 3));
+        }
+
+        @Test
+        @DisplayName("A floating point operand gives a double")
+        void add_shouldWidenToDouble() {
+            assertEquals(2.5, FieldUpdate.add(2, 0.5));
+            assertEquals(2.5, FieldUpdate.add(2L, 0.5F));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package toutouchien.niveriaapi.database;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.helpers.NOPLogger;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBatcherTest {
+    private List<List<UpdateOneModel<Document>>> bulkWrites;
+    private List<String> existingIds;
+    private WriteBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        this.bulkWrites = new ArrayList<>();
+        this.existingIds = new ArrayList<>();
+        this.batcher = new WriteBatcher("test", "test", this.collection(), NOPLogger.NOP_LOGGER,
+                Runnable::run, 100, (keys, modifier) -> new Document());
+    }
+
+    @Test
+    @DisplayName("Updates of the same field are coalesced into a single updateOne")
+    void enqueue_shouldCoalesceUpdatesOfSameField() {
+        this.existingIds.add("a");
+        CompletableFuture<Boolean> first = this.batcher.enqueue("a", "coins", FieldUpdate.set(10), false, null);
+        CompletableFuture<Boolean> second = this.batcher.enqueue("a", "coins", FieldUpdate.inc(5), false, null);
+        CompletableFuture<Boolean> third = this.batcher.enqueue("a", "name", FieldUpdate.set("Steve"), false, null);
+
+        this.batcher.flush();
+
+        assertEquals(1, this.bulkWrites.size());
+        assertEquals(1, this.bulkWrites.getFirst().size());
+        assertEquals(new Document("$set", new Document("coins", 15).append("name", "Steve")), this.update(0, 0));
+        assertTrue(first.join());
+        assertTrue(second.join());
+        assertTrue(third.join());
+    }
+
+    @Test
+    @DisplayName("Updates of different documents share a batch")
+    void enqueue_shouldBatchDifferentDocuments() {
+        this.existingIds.addAll(List.of("a", "b"));
+        this.batcher.enqueue("a", "coins", FieldUpdate.inc(1), false, null);
+        this.batcher.enqueue("b", "coins", FieldUpdate.inc(2), false, null);
+
+        this.batcher.flush();
+
+        assertEquals(1, this.bulkWrites.size());
+        assertEquals(2, this.bulkWrites.getFirst().size());
+    }
+
+    @Test
+    @DisplayName("A parent and a child path of the same document go in consecutive batches")
+    void enqueue_shouldSplitConflictingPaths() {
+        this.existingIds.add("a");
+        this.batcher.enqueue("a", "stats", FieldUpdate.set(new Document()), false, null);
+        this.batcher.enqueue("a", "stats.kills", FieldUpdate.inc(1), false, null);
+
+        this.batcher.flush();
+
+        assertEquals(2, this.bulkWrites.size());
+        assertEquals(new Document("$set", new Document("stats", new Document())), this.update(0, 0));
+        assertEquals(new Document("$inc", new Document("stats.kills", 1)), this.update(1, 0));
+    }
+
+    @Test
+    @DisplayName("An upsert is not merged with a plain update of the same document")
+    void enqueue_shouldNotMergeUpsertWithPlainUpdate() {
+        this.batcher.enqueue("a", "coins", FieldUpdate.set(1), false, null);
+        this.batcher.enqueue("a", "name", FieldUpdate.set("Steve"), true, null);
+
+        this.batcher.flush();
+
+        assertEquals(2, this.bulkWrites.size());
+        assertFalse(this.bulkWrites.get(0).getFirst().getOptions().isUpsert());
+        assertTrue(this.bulkWrites.get(1).getFirst().getOptions().isUpsert());
+    }
+
+    @Test
+    @DisplayName("An increment cannot be folded into a set of a non-number")
+    void enqueue_shouldSplitUnmergeableUpdates() {
+        this.existingIds.add("a");
+        this.batcher.enqueue("a", "coins", FieldUpdate.set("none"), false, null);
+        this.batcher.enqueue("a", "coins", FieldUpdate.inc(1), false, null);
+
+        this.batcher.flush();
+
+        assertEquals(2, this.bulkWrites.size());
+    }
+
+    @Test
+    @DisplayName("A plain update of a missing document completes with false")
+    void flush_shouldFailUpdatesOfMissingDocuments() {
+        this.existingIds.add("a");
+        CompletableFuture<Boolean> existing = this.batcher.enqueue("a", "coins", FieldUpdate.inc(1), false, null);
+        CompletableFuture<Boolean> missing = this.batcher.enqueue("b", "coins", FieldUpdate.inc(1), false, null);
+        CompletableFuture<Boolean> upserted = this.batcher.enqueue("c", "coins", FieldUpdate.inc(1), true, null);
+
+        this.batcher.flush();
+
+        assertTrue(existing.join());
+        assertFalse(missing.join());
+        assertTrue(upserted.join());
+    }
+
+    @Test
+    @DisplayName("flush(id) only writes when an update of the document is pending")
+    void flushId_shouldOnlyWritePendingDocuments() {
+        this.existingIds.add("a");
+        this.batcher.enqueue("a", "coins", FieldUpdate.inc(1), false, null);
+
+        this.batcher.flush("b");
+        assertTrue(this.bulkWrites.isEmpty());
+        assertTrue(this.batcher.hasPending("a"));
+
+        this.batcher.flush("a");
+        assertEquals(1, this.bulkWrites.size());
+        assertFalse(this.batcher.hasPending("a"));
+    }
+
+    @Test
+    @DisplayName("A full batch is written right away")
+    void enqueue_shouldFlushFullBatch() {
+        this.batcher = new WriteBatcher("test", "test", this.collection(), NOPLogger.NOP_LOGGER,
+                Runnable::run, 2, (keys, modifier) -> new Document());
+        this.existingIds.addAll(List.of("a", "b"));
+
+        this.batcher.enqueue("a", "coins", FieldUpdate.inc(1), false, null);
+        assertTrue(this.bulkWrites.isEmpty());
+
+        this.batcher.enqueue("b", "coins", FieldUpdate.inc(1), false, null);
+        assertEquals(1, this.bulkWrites.size());
+    }
+
+    private Document update(int batch, int index) {
+        return (Document) this.bulkWrites.get(batch).get(index).getUpdate();
+    }
+
+    /**
+     * Creates a collection recording bulk writes, in which only the documents
+     * of {@link #existingIds} exist.
+     */
+    @SuppressWarnings("unchecked")
+    private MongoCollection<Document> collection() {
+        return (MongoCollection<Document>) Proxy.newProxyInstance(
+                MongoCollection.class.getClassLoader(),
+                new Class<?>[]{MongoCollection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "bulkWrite" -> this.bulkWrite((List<? extends WriteModel<Document>>) args[0]);
+                    case "find" -> this.findExisting();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+
+    private BulkWriteResult bulkWrite(List<? extends WriteModel<Document>> models) {
+        List<UpdateOneModel<Document>> updates = new ArrayList<>();
+        int matched = 0;
+        for (WriteModel<Document> model : models) {
+            UpdateOneModel<Document> update = (UpdateOneModel<Document>) model;
+            updates.add(update);
+
+            String id = update.getFilter().toBsonDocument().getString("_id").getValue();
+            if (this.existingIds.contains(id) || update.getOptions().isUpsert())
+                matched++;
+        }
+
+        this.bulkWrites.add(updates);
+        return BulkWriteResult.acknowledged(0, matched, 0, matched, List.of(), List.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private FindIterable<Document> findExisting() {
+        return (FindIterable<Document>) Proxy.newProxyInstance(
+                FindIterable.class.getClassLoader(),
+                new Class<?>[]{FindIterable.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "projection" -> proxy;
+                    case "forEach" -> {
+                        Consumer<Document> consumer = (Consumer<Document>) args[0];
+                        this.existingIds.forEach(id -> consumer.accept(new Document("_id", id)));
+                        yield null;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+}
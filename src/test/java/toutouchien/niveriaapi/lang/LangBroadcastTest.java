@@ -0,0 +1,96 @@
+package toutouchien.niveriaapi.lang;
+
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import toutouchien.niveriaapi.NiveriaAPI;
+import toutouchien.niveriaapi.mock.MockBukkitHelper;
+import toutouchien.niveriaapi.mock.ServerMock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LangBroadcastTest {
+    private static final String KEY = "command.fixcommands.multiple";
+
+    private ServerMock server;
+    private Lang lang;
+    private List<PlayerMock> players;
+
+    @BeforeEach
+    void setUp() {
+        this.server = MockBukkitHelper.safeMock();
+        NiveriaAPI plugin = MockBukkit.load(NiveriaAPI.class);
+
+        this.lang = Lang.builder(plugin)
+                .addDefaultLanguageFiles("en_US.yml", "fr_FR.yml")
+                .collectMetrics(true)
+                .build();
+        this.players = List.of(this.server.addPlayer(), this.server.addPlayer(), this.server.addPlayer());
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.lang.shutdown();
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Test
+    @DisplayName("A broadcast renders the message once and sends the same component to every recipient")
+    void broadcast_shouldRenderOncePerLocale() {
+        this.lang.broadcast(this.players, KEY, Lang.numberPlaceholder("player_amount", 3));
+
+        Component first = this.players.getFirst().nextComponentMessage();
+        assertNotNull(first);
+        for (PlayerMock player : this.players.subList(1, this.players.size()))
+            assertSame(first, player.nextComponentMessage());
+
+        LangMetrics.KeyStats stats = this.keyStats();
+        assertEquals(1, stats.requests());
+        assertEquals(1, stats.renders());
+    }
+
+    @Test
+    @DisplayName("A broadcast sends the same message as rendering it for each recipient")
+    void broadcast_shouldMatchPerRecipientRendering() {
+        this.lang.broadcast(this.players, KEY, Lang.numberPlaceholder("player_amount", 3));
+
+        Component expected = this.lang.get(this.players.getFirst(), KEY, Lang.numberPlaceholder("player_amount", 3));
+        for (PlayerMock player : this.players)
+            assertEquals(expected, player.nextComponentMessage());
+    }
+
+    @Test
+    @DisplayName("A broadcast to a forwarding audience reaches every online player")
+    void broadcast_shouldReachEveryAudienceOfForwardingAudience() {
+        this.lang.broadcast(this.server, null, KEY, Lang.numberPlaceholder("player_amount", 3));
+
+        for (PlayerMock player : this.players)
+            assertNotNull(player.nextComponentMessage());
+
+        assertEquals(1, this.keyStats().renders());
+    }
+
+    @Test
+    @DisplayName("A broadcast to no audience renders nothing")
+    void broadcast_shouldNotRenderWithoutRecipients() {
+        this.lang.broadcast(List.of(), KEY, Lang.numberPlaceholder("player_amount", 3));
+
+        assertTrue(this.lang.metrics().keyStats().stream().noneMatch(stats -> stats.key().equals(KEY)));
+    }
+
+    private LangMetrics.KeyStats keyStats() {
+        LangMetrics metrics = this.lang.metrics();
+        assertNotNull(metrics);
+
+        return metrics.keyStats().stream()
+                .filter(stats -> stats.key().equals(KEY))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,128 @@
+package toutouchien.niveriaapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LangBundleCacheTest {
+    private static final byte[] SOURCE = "greeting: <prefix>Hello".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    private Path directory;
+    private Path sourceFile;
+    private Path cacheFile;
+    private Object2ObjectMap<String, String> messages;
+    private Object2ObjectMap<String, Object2ObjectMap<String, String>> tags;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.sourceFile = Files.write(this.directory.resolve("en_US.yml"), SOURCE);
+        this.cacheFile = this.directory.resolve("cache").resolve("en_US.bin");
+
+        this.messages = new Object2ObjectOpenHashMap<>();
+        this.messages.put("greeting", "<prefix>Hello");
+
+        Object2ObjectMap<String, String> prefixes = new Object2ObjectOpenHashMap<>();
+        prefixes.put("prefix", "[Niveria] ");
+        this.tags = new Object2ObjectOpenHashMap<>();
+        this.tags.put("prefixes", prefixes);
+    }
+
+    @Test
+    @DisplayName("A compiled file reads back the messages and special tags it was written with")
+    void read_shouldReturnWrittenContents() throws IOException {
+        this.write();
+
+        Object2ObjectMap<String, String> readMessages = new Object2ObjectOpenHashMap<>();
+        Object2ObjectMap<String, Object2ObjectMap<String, String>> readTags = new Object2ObjectOpenHashMap<>();
+
+        assertTrue(LangBundleCache.read(this.cacheFile, this.sourceFile, readMessages, readTags));
+        assertEquals(this.messages, readMessages);
+        assertEquals(this.tags, readTags);
+    }
+
+    @Test
+    @DisplayName("A compiled file can be replaced right after it was read")
+    void write_shouldReplaceReadFile() throws IOException {
+        this.write();
+        assertTrue(LangBundleCache.read(this.cacheFile, this.sourceFile, new Object2ObjectOpenHashMap<>(), new Object2ObjectOpenHashMap<>()));
+
+        this.messages.put("farewell", "Bye");
+        this.write();
+
+        Object2ObjectMap<String, String> readMessages = new Object2ObjectOpenHashMap<>();
+        assertTrue(LangBundleCache.read(this.cacheFile, this.sourceFile, readMessages, new Object2ObjectOpenHashMap<>()));
+        assertEquals("Bye", readMessages.get("farewell"));
+    }
+
+    @Test
+    @DisplayName("A compiled file is stale once the size of its source file changes")
+    void read_shouldRejectResizedSource() throws IOException {
+        this.write();
+        Files.writeString(this.sourceFile, "greeting: <prefix>Hello world");
+
+        assertFalse(LangBundleCache.read(this.cacheFile, this.sourceFile, new Object2ObjectOpenHashMap<>(), new Object2ObjectOpenHashMap<>()));
+    }
+
+    @Test
+    @DisplayName("A compiled file is stale once its source file changes content with the same size")
+    void read_shouldRejectChangedSource() throws IOException {
+        this.write();
+        Files.writeString(this.sourceFile, "greeting: <prefix>Howdy");
+        Files.setLastModifiedTime(this.sourceFile, FileTime.fromMillis(this.lastModified() + 1000));
+
+        assertFalse(LangBundleCache.read(this.cacheFile, this.sourceFile, new Object2ObjectOpenHashMap<>(), new Object2ObjectOpenHashMap<>()));
+    }
+
+    @Test
+    @DisplayName("A compiled file stays valid when only the modification time of its source file changes")
+    void read_shouldAcceptTouchedSource() throws IOException {
+        this.write();
+        Files.setLastModifiedTime(this.sourceFile, FileTime.fromMillis(this.lastModified() + 1000));
+
+        Object2ObjectMap<String, String> readMessages = new Object2ObjectOpenHashMap<>();
+        assertTrue(LangBundleCache.read(this.cacheFile, this.sourceFile, readMessages, new Object2ObjectOpenHashMap<>()));
+        assertEquals(this.messages, readMessages);
+    }
+
+    @Test
+    @DisplayName("A truncated compiled file is ignored without leaving partial contents")
+    void read_shouldRejectTruncatedFile() throws IOException {
+        this.write();
+        byte[] bytes = Files.readAllBytes(this.cacheFile);
+        Files.write(this.cacheFile, Arrays.copyOf(bytes, bytes.length - 4));
+
+        Object2ObjectMap<String, String> readMessages = new Object2ObjectOpenHashMap<>();
+        Object2ObjectMap<String, Object2ObjectMap<String, String>> readTags = new Object2ObjectOpenHashMap<>();
+
+        assertFalse(LangBundleCache.read(this.cacheFile, this.sourceFile, readMessages, readTags));
+        assertTrue(readMessages.isEmpty());
+        assertTrue(readTags.isEmpty());
+    }
+
+    @Test
+    @DisplayName("A missing compiled file is not read")
+    void read_shouldRejectMissingFile() {
+        assertFalse(LangBundleCache.read(this.cacheFile, this.sourceFile, new Object2ObjectOpenHashMap<>(), new Object2ObjectOpenHashMap<>()));
+    }
+
+    private void write() throws IOException {
+        LangBundleCache.write(this.cacheFile, Files.readAllBytes(this.sourceFile), this.lastModified(), this.messages, this.tags);
+    }
+
+    private long lastModified() throws IOException {
+        return Files.getLastModifiedTime(this.sourceFile).toMillis();
+    }
+}
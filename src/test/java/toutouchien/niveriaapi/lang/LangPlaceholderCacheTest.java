@@ -0,0 +1,112 @@
+package toutouchien.niveriaapi.lang;
+
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import toutouchien.niveriaapi.NiveriaAPI;
+import toutouchien.niveriaapi.mock.MockBukkitHelper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LangPlaceholderCacheTest {
+    private static final String KEY = "command.fixcommands.multiple";
+
+    private NiveriaAPI plugin;
+    private Lang lang;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkitHelper.safeMock();
+        this.plugin = MockBukkit.load(NiveriaAPI.class);
+        this.lang = this.build(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.lang.shutdown();
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Test
+    @DisplayName("A message requested again with the same placeholder values is served from the cache")
+    void get_shouldCacheSamePlaceholderValues() {
+        Component first = this.lang.get(KEY, Lang.placeholder("player_amount", "3"));
+        Component second = this.lang.get(KEY, Lang.placeholder("player_amount", "3"));
+
+        assertSame(first, second);
+        assertEquals(2, this.keyStats().requests());
+        assertEquals(1, this.keyStats().renders());
+    }
+
+    @Test
+    @DisplayName("A message requested with other placeholder values is rendered again")
+    void get_shouldRenderOtherPlaceholderValues() {
+        Component three = this.lang.get(KEY, Lang.placeholder("player_amount", "3"));
+        Component four = this.lang.get(KEY, Lang.placeholder("player_amount", "4"));
+
+        assertNotEquals(three, four);
+        assertEquals(2, this.keyStats().renders());
+    }
+
+    @Test
+    @DisplayName("Parsed and unparsed placeholders with the same value are cached separately")
+    void get_shouldKeyOnPlaceholderKind() {
+        Component parsed = this.lang.get(KEY, Lang.placeholder("player_amount", "<red>3"));
+        Component unparsed = this.lang.get(KEY, Lang.unparsedPlaceholder("player_amount", "<red>3"));
+
+        assertNotEquals(parsed, unparsed);
+        assertEquals(2, this.keyStats().renders());
+    }
+
+    @Test
+    @DisplayName("Messages with component placeholders are never cached")
+    void get_shouldNotCacheComponentPlaceholders() {
+        this.lang.get(KEY, Lang.componentPlaceholder("player_amount", Component.text(3)));
+        this.lang.get(KEY, Lang.componentPlaceholder("player_amount", Component.text(3)));
+
+        assertEquals(2, this.keyStats().renders());
+    }
+
+    @Test
+    @DisplayName("A cached message is the same as an uncached one")
+    void get_shouldMatchUncachedRendering() {
+        Component cached = this.lang.get(KEY, Lang.placeholder("player_amount", "3"));
+        this.lang.shutdown();
+
+        this.lang = this.build(false);
+        assertEquals(this.lang.get(KEY, Lang.placeholder("player_amount", "3")), cached);
+    }
+
+    @Test
+    @DisplayName("Without the option, placeholder messages are rendered on every request")
+    void get_shouldNotCacheWhenDisabled() {
+        this.lang.shutdown();
+        this.lang = this.build(false);
+
+        this.lang.get(KEY, Lang.placeholder("player_amount", "3"));
+        this.lang.get(KEY, Lang.placeholder("player_amount", "3"));
+
+        assertEquals(2, this.keyStats().renders());
+    }
+
+    private Lang build(boolean cachePlaceholderMessages) {
+        return Lang.builder(this.plugin)
+                .addDefaultLanguageFiles("en_US.yml", "fr_FR.yml")
+                .cachePlaceholderMessages(cachePlaceholderMessages)
+                .collectMetrics(true)
+                .build();
+    }
+
+    private LangMetrics.KeyStats keyStats() {
+        LangMetrics metrics = this.lang.metrics();
+        assertNotNull(metrics);
+
+        return metrics.keyStats().stream()
+                .filter(stats -> stats.key().equals(KEY))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,92 @@
+package toutouchien.niveriaapi.lang;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LangTemplateTest {
+    private static final TagResolver[] NO_RESOLVERS = new TagResolver[0];
+    private static final Component PLAYER = Component.text("Steve", NamedTextColor.AQUA);
+    private static final Component AMOUNT = Component.text("42");
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Plain message",
+            "<red>Colored message</red>",
+            "<gray>Hello <player>!</gray>",
+            "<bold><player></bold> paid <gold><amount> coins</gold> to <player>",
+            "<player>",
+            "<green>Unclosed <italic><player> tags"
+    })
+    @DisplayName("Rendering a template gives the same component as parsing the message with MiniMessage")
+    void render_shouldMatchMiniMessage(String message) {
+        LangTemplate template = LangTemplate.compile(message, NO_RESOLVERS);
+        assertTrue(template.supported());
+
+        Component expected = MiniMessage.miniMessage().deserialize(message,
+                Placeholder.component("player", PLAYER), Placeholder.component("amount", AMOUNT));
+        assertEquals(expected, template.render(values()));
+    }
+
+    @Test
+    @DisplayName("A template can be rendered several times with different values")
+    void render_shouldNotKeepPreviousValues() {
+        String message = "<gray>Hello <player>!</gray>";
+        LangTemplate template = LangTemplate.compile(message, NO_RESOLVERS);
+
+        Object2ObjectMap<String, Component> values = new Object2ObjectOpenHashMap<>();
+        values.put("player", PLAYER);
+        template.render(values);
+
+        values.put("player", Component.text("Alex"));
+        Component expected = MiniMessage.miniMessage().deserialize(message, Placeholder.component("player", Component.text("Alex")));
+        assertEquals(expected, template.render(values));
+    }
+
+    @Test
+    @DisplayName("A placeholder without a value is rendered as the literal tag")
+    void render_shouldKeepMissingPlaceholdersLiteral() {
+        String message = "<gray>Hello <player>!</gray>";
+        LangTemplate template = LangTemplate.compile(message, NO_RESOLVERS);
+
+        assertEquals(MiniMessage.miniMessage().deserialize(message), template.render(new Object2ObjectOpenHashMap<>()));
+    }
+
+    @Test
+    @DisplayName("Locale and custom resolvers are applied when compiling")
+    void compile_shouldApplyResolvers() {
+        String message = "<prefix> <player>";
+        TagResolver prefix = Placeholder.component("prefix", Component.text("[Niveria]", NamedTextColor.GOLD));
+        LangTemplate template = LangTemplate.compile(message, new TagResolver[]{prefix});
+
+        Component expected = MiniMessage.miniMessage().deserialize(message, prefix, Placeholder.component("player", PLAYER));
+        assertEquals(expected, template.render(values()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "<player:arg>",
+            "<hover:show_text:'<player>'>Hover me</hover>"
+    })
+    @DisplayName("Placeholders with arguments or outside the children cannot be templated")
+    void compile_shouldRejectUnsupportedMessages(String message) {
+        assertFalse(LangTemplate.compile(message, NO_RESOLVERS).supported());
+    }
+
+    private static Object2ObjectMap<String, Component> values() {
+        Object2ObjectMap<String, Component> values = new Object2ObjectOpenHashMap<>();
+        values.put("player", PLAYER);
+        values.put("amount", AMOUNT);
+        return values;
+    }
+}
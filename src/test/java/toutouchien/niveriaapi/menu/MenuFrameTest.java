@@ -0,0 +1,146 @@
+package toutouchien.niveriaapi.menu;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import toutouchien.niveriaapi.NiveriaAPI;
+import toutouchien.niveriaapi.menu.component.MenuComponent;
+import toutouchien.niveriaapi.menu.component.display.Icon;
+import toutouchien.niveriaapi.menu.component.layout.Grid;
+import toutouchien.niveriaapi.mock.MockBukkitHelper;
+import toutouchien.niveriaapi.mock.ServerMock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MenuFrameTest {
+    private ItemStack apple;
+    private ItemStack stone;
+    private ItemStack diamond;
+    private TestMenu menu;
+    private Inventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        ServerMock server = MockBukkitHelper.safeMock();
+        MockBukkit.load(NiveriaAPI.class);
+
+        this.apple = ItemStack.of(Material.APPLE);
+        this.stone = ItemStack.of(Material.STONE);
+        this.diamond = ItemStack.of(Material.DIAMOND);
+
+        PlayerMock player = server.addPlayer();
+        this.menu = new TestMenu(player, this.apple);
+        this.menu.open();
+        this.inventory = this.menu.inventory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Test
+    @DisplayName("Opening a menu renders every component")
+    void open_shouldRenderComponents() {
+        assertEquals(this.apple, this.inventory.getItem(0));
+        assertTrue(this.emptySlot(1));
+    }
+
+    @Test
+    @DisplayName("A frame leaves the slots it did not write untouched")
+    void renderFrame_shouldOnlyWriteWrittenSlots() {
+        this.inventory.setItem(4, this.stone);
+
+        this.menu.renderFrame(frame -> frame[1] = this.diamond);
+
+        assertEquals(this.apple, this.inventory.getItem(0));
+        assertEquals(this.diamond, this.inventory.getItem(1));
+        assertEquals(this.stone, this.inventory.getItem(4));
+    }
+
+    @Test
+    @DisplayName("A render restores a slot changed directly in the inventory")
+    void render_shouldRestoreSlotsChangedOutsideTheMenu() {
+        this.inventory.setItem(0, this.stone);
+
+        this.menu.icon.render(this.menu.context());
+
+        assertEquals(this.apple, this.inventory.getItem(0));
+    }
+
+    @Test
+    @DisplayName("Nested frames only write to the inventory when the outermost frame ends")
+    void renderFrame_shouldWriteWhenOutermostFrameEnds() {
+        this.menu.renderFrame(frame -> {
+            this.menu.renderSlot(5, this.diamond);
+            this.menu.icon.item(this.stone).render(this.menu.context());
+
+            assertEquals(this.diamond, frame[5]);
+            assertEquals(this.stone, frame[0]);
+            assertTrue(this.emptySlot(5));
+            assertEquals(this.apple, this.inventory.getItem(0));
+        });
+
+        assertEquals(this.diamond, this.inventory.getItem(5));
+        assertEquals(this.stone, this.inventory.getItem(0));
+    }
+
+    @Test
+    @DisplayName("Clearing a slot in the frame clears it in the inventory")
+    void renderSlot_shouldClearSlot() {
+        this.menu.renderSlot(0, null);
+
+        assertTrue(this.emptySlot(0));
+    }
+
+    @Test
+    @DisplayName("renderDirty only renders the components marked dirty")
+    void renderDirty_shouldRenderDirtyComponents() {
+        this.menu.icon.item(this.diamond);
+        this.inventory.setItem(8, this.stone);
+
+        this.menu.renderDirty();
+
+        assertEquals(this.diamond, this.inventory.getItem(0));
+        assertEquals(this.stone, this.inventory.getItem(8));
+        assertFalse(this.menu.icon.dirty());
+    }
+
+    private boolean emptySlot(int slot) {
+        ItemStack item = this.inventory.getItem(slot);
+        return item == null || item.isEmpty();
+    }
+
+    private static final class TestMenu extends Menu {
+        private final Icon icon;
+
+        private TestMenu(Player player, ItemStack item) {
+            super(player);
+
+            this.icon = Icon.create()
+                    .item(item)
+                    .build();
+        }
+
+        @Override
+        protected Component title() {
+            return Component.text("Frame Test Menu");
+        }
+
+        @Override
+        protected MenuComponent root(MenuContext context) {
+            return Grid.create()
+                    .size(9, 1)
+                    .add(0, this.icon)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package toutouchien.niveriaapi.menu.component.container;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+import toutouchien.niveriaapi.NiveriaAPI;
+import toutouchien.niveriaapi.menu.Menu;
+import toutouchien.niveriaapi.menu.MenuContext;
+import toutouchien.niveriaapi.menu.component.MenuComponent;
+import toutouchien.niveriaapi.menu.component.display.Icon;
+import toutouchien.niveriaapi.menu.component.layout.Grid;
+import toutouchien.niveriaapi.mock.MockBukkitHelper;
+import toutouchien.niveriaapi.mock.ServerMock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaginatorSourceTest {
+    private static final int NEXT_BUTTON_SLOT = 17;
+
+    private int size;
+    private int sizeCalls;
+    private TestMenu menu;
+    private Inventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        ServerMock server = MockBukkitHelper.safeMock();
+        MockBukkit.load(NiveriaAPI.class);
+
+        this.size = 20;
+        this.sizeCalls = 0;
+        PaginatorSource source = PaginatorSource.sync(context -> {
+            this.sizeCalls++;
+            return this.size;
+        }, (context, offset, limit) -> {
+            ObjectList<MenuComponent> components = new ObjectArrayList<>();
+            for (int i = offset; i < offset + limit; i++)
+                components.add(Icon.create().item(ItemStack.of(Material.STONE, i + 1)).build());
+
+            return components;
+        });
+
+        PlayerMock player = server.addPlayer();
+        this.menu = new TestMenu(player, source);
+        this.menu.open();
+        this.inventory = this.menu.inventory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkitHelper.safeUnmock();
+    }
+
+    @Test
+    @DisplayName("The first page is fetched and displayed when the menu opens")
+    void open_shouldDisplayFirstPage() {
+        for (int slot = 0; slot < 9; slot++)
+            assertEquals(slot + 1, this.inventory.getItem(slot).getAmount());
+
+        assertEquals(Material.ARROW, this.inventory.getItem(NEXT_BUTTON_SLOT).getType());
+    }
+
+    @Test
+    @DisplayName("The size is fetched when the paginator is added, not on every render")
+    void render_shouldNotFetchSize() {
+        this.menu.paginator.render(this.menu.context());
+        this.menu.paginator.page(1).render(this.menu.context());
+
+        assertEquals(1, this.sizeCalls);
+        assertEquals(10, this.inventory.getItem(0).getAmount());
+    }
+
+    @Test
+    @DisplayName("A refresh fetches the size again and updates the navigation buttons")
+    void refresh_shouldFetchSizeAndMarkNavigationDirty() {
+        this.size = 5;
+        this.menu.paginator.refresh(this.menu.context());
+        this.menu.renderDirty();
+
+        assertEquals(2, this.sizeCalls);
+        assertEquals(5, this.inventory.getItem(4).getAmount());
+        assertTrue(this.emptySlot(5));
+        assertTrue(this.emptySlot(NEXT_BUTTON_SLOT));
+    }
+
+    @Test
+    @DisplayName("A refresh moves back to the last page if the current page no longer exists")
+    void refresh_shouldClampPage() {
+        this.menu.paginator.page(2).render(this.menu.context());
+
+        this.size = 5;
+        this.menu.paginator.refresh(this.menu.context());
+        this.menu.renderDirty();
+
+        assertEquals(1, this.inventory.getItem(0).getAmount());
+    }
+
+    private boolean emptySlot(int slot) {
+        ItemStack item = this.inventory.getItem(slot);
+        return item == null || item.isEmpty();
+    }
+
+    private static final class TestMenu extends Menu {
+        private final Paginator paginator;
+
+        private TestMenu(Player player, PaginatorSource source) {
+            super(player);
+
+            this.paginator = Paginator.create()
+                    .size(9, 1)
+                    .source(source)
+                    .build();
+        }
+
+        @Override
+        protected Component title() {
+            return Component.text("Paginator Source Test Menu");
+        }
+
+        @Override
+        protected MenuComponent root(MenuContext context) {
+            return Grid.create()
+                    .size(9, 2)
+                    .add(0, this.paginator)
+                    .add(NEXT_BUTTON_SLOT, this.paginator.nextButton())
+                    .build();
+        }
+    }
+}